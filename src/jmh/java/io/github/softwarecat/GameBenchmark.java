@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat;
+
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full games of Craps, from the come out roll until the Pass Line bet is resolved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    static final int BATCH = 1024;
+
+    Dice dice;
+
+    Game game;
+
+    int[] batch;
+
+    @Setup
+    public void setUp() {
+        dice = Dice.standard(RandomSource.seeded(42));
+        game = new Game();
+        batch = new int[BATCH];
+    }
+
+    /**
+     * Plays one game and returns the number of rolls it took. The {@link Game} is reset rather than created, so this
+     * measures the transitions and not the allocation.
+     *
+     * @return the number of rolls
+     */
+    @Benchmark
+    public int cycle() {
+        game.reset();
+        int rolls = 1;
+        int event = game.roll(dice.next());
+        while (event == Game.POINT_ESTABLISHED || event == Game.NO_DECISION) {
+            event = game.roll(dice.next());
+            rolls++;
+        }
+        return rolls;
+    }
+
+    /**
+     * Plays a batch of throws one at a time, as rolls per second.
+     *
+     * @return the number of decisions
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int rolls() {
+        int decisions = 0;
+        for (int i = 0; i < BATCH; i++) {
+            int event = game.roll(dice.next());
+            if (event != Game.NO_DECISION && event != Game.POINT_ESTABLISHED) {
+                decisions++;
+            }
+        }
+        return decisions;
+    }
+
+    /**
+     * Plays a batch of throws selected with {@link Dice#nextBatch(int[], int)}, as rolls per second.
+     *
+     * @return the number of decisions
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int rollBatch() {
+        dice.nextBatch(batch, BATCH);
+        return game.roll(dice, batch, BATCH);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat;
+
+import org.apache.commons.lang3.math.Fraction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the payout arithmetic of {@link Outcome}, comparing the {@link Fraction} API with the fixed-point
+ * {@link Outcome#winUnits(long)}, both for a bet in its payout cache and for one above it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutcomeBenchmark {
+
+    Outcome evenMoney;
+
+    Outcome placeSix;
+
+    Fraction amount;
+
+    int intAmount;
+
+    long units;
+
+    long largeUnits;
+
+    @Setup
+    public void setUp() {
+        evenMoney = new Outcome("Pass Line", 1);
+        placeSix = new Outcome("Place 6", 7, 6);
+        amount = Fraction.getFraction(12);
+        intAmount = 12;
+        units = Money.of(12);
+        largeUnits = Money.of(Outcome.PAYOUT_CACHE_UNITS * 12L);
+    }
+
+    @Benchmark
+    public Fraction winAmountFraction() {
+        return placeSix.winAmount(amount);
+    }
+
+    @Benchmark
+    public Fraction winAmountInt() {
+        return placeSix.winAmount(intAmount);
+    }
+
+    @Benchmark
+    public Fraction winAmountEvenMoney() {
+        return evenMoney.winAmount(intAmount);
+    }
+
+    @Benchmark
+    public long winUnits() {
+        return placeSix.winUnits(units);
+    }
+
+    @Benchmark
+    public long winUnitsUncached() {
+        return placeSix.winUnits(largeUnits);
+    }
+}
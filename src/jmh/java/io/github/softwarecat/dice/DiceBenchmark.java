@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.dice;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dense {@link Dice} table against the original {@link HashMap} lookup, which copied the key set into a
+ * new {@link ArrayList} on every roll and hashed a boxed {@link Pair} on every {@link Dice#getThrow(int, int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+
+    static final int BATCH = 1024;
+
+    Dice dice;
+
+    Dice splittableDice;
+
+    Random legacyRng;
+
+    Map<Pair<Integer, Integer>, Throw> legacyThrows;
+
+    int diceOne;
+
+    int diceTwo;
+
+    int[] batch;
+
+    @Setup
+    public void setUp() {
+        dice = Dice.standard(RandomSource.of(new Random(42)));
+        legacyRng = new Random(42);
+        splittableDice = Dice.standard(RandomSource.seeded(42));
+        legacyThrows = new HashMap<>();
+        for (Throw diceThrow : dice.getThrows()) {
+            legacyThrows.put(diceThrow.getKey(), diceThrow);
+        }
+        batch = new int[BATCH];
+        diceOne = 3;
+        diceTwo = 4;
+    }
+
+    @Benchmark
+    public Throw next() {
+        return dice.next();
+    }
+
+    @Benchmark
+    public Throw nextSplittable() {
+        return splittableDice.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] nextBatch() {
+        splittableDice.nextBatch(batch, BATCH);
+        return batch;
+    }
+
+    @Benchmark
+    public Throw legacyNext() {
+        List<Pair<Integer, Integer>> keys = new ArrayList<>(legacyThrows.keySet());
+        int index = legacyRng.nextInt(keys.size());
+        return legacyThrows.get(keys.get(index));
+    }
+
+    @Benchmark
+    public Throw getThrow() {
+        return dice.getThrow(diceOne, diceTwo);
+    }
+
+    @Benchmark
+    public Throw legacyGetThrow() {
+        return legacyThrows.get(Pair.of(diceOne, diceTwo));
+    }
+}
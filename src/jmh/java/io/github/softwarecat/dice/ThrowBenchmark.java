@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.dice;
+
+import io.github.softwarecat.Game;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Throw#updateGame(Game)} for each of the 36 throws of the standard dice. No subclass overrides it, so
+ * this is the cost of the table-driven {@link Game#roll(Throw)} reached through a {@link Throw}, for comparison with
+ * {@code GameBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrowBenchmark {
+
+    Throw[] throwList;
+
+    Game game;
+
+    @Setup
+    public void setUp() {
+        throwList = Dice.standard().getThrows().toArray(new Throw[0]);
+        game = new Game();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Dice.THROW_COUNT)
+    public void updateGame(Blackhole blackhole) {
+        for (Throw diceThrow : throwList) {
+            diceThrow.updateGame(game);
+        }
+        blackhole.consume(game);
+    }
+}
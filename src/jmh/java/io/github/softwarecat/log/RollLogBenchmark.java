@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing rolls to a {@link RollLogWriter}, and reading them back with a {@link RollLogReader}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollLogBenchmark {
+
+    static final int BATCH = 4096;
+
+    int[] batch;
+
+    Path path;
+
+    RollLogWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        batch = new int[BATCH];
+        RandomSource rng = RandomSource.seeded(1);
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = rng.nextInt(Dice.THROW_COUNT);
+        }
+        path = Files.createTempFile("rolls", ".log");
+    }
+
+    @Setup(Level.Iteration)
+    public void openWriter() throws IOException {
+        writer = new RollLogWriter(path);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeWriter() throws IOException {
+        writer.close();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long write() throws IOException {
+        writer.writeIndexes(batch, BATCH);
+        return writer.getRolls();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LogFile.ROLLS)
+    public long read(LogFile log) throws IOException {
+        long sum = 0;
+        try (RollLogReader reader = new RollLogReader(log.path)) {
+            while (reader.next() != RollLogReader.END) {
+                sum += reader.getIndex();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * A complete roll log to read.
+     */
+    @State(Scope.Benchmark)
+    public static class LogFile {
+
+        static final int ROLLS = 1 << 20;
+
+        Path path;
+
+        @Setup
+        public void setUp() throws IOException {
+            path = Files.createTempFile("rolls", ".log");
+            RandomSource rng = RandomSource.seeded(2);
+            try (RollLogWriter writer = new RollLogWriter(path)) {
+                for (int i = 0; i < ROLLS; i++) {
+                    writer.writeIndex(rng.nextInt(Dice.THROW_COUNT));
+                }
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -24,11 +24,296 @@
 
 package io.github.softwarecat;
 
+import io.github.softwarecat.metrics.Metrics;
+import io.github.softwarecat.player.Fibonacci;
+import io.github.softwarecat.player.Martingale;
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.simulation.ResultWriter;
+import io.github.softwarecat.simulation.SimulationResult;
+import io.github.softwarecat.simulation.Simulator;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
- * Hello world!
+ * {@link App} is the command-line entry point: it simulates many sessions of one betting strategy and streams the
+ * statistics of each shard as it completes, followed by the statistics of the whole run. A summary with the throughput
+ * in rolls per second and the heap usage goes to standard error, so it does not mix with the results.
  */
 public class App {
+
+    /**
+     * The command-line help.
+     */
+    static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: craps [options]",
+            "  --strategy <name>   passline, martingale or fibonacci (default passline)",
+            "  --stake <units>     starting stake of each session, in betting units (default 100)",
+            "  --bet <units>       base bet, in betting units (default 1)",
+            "  --sessions <n>      number of sessions (default 10000)",
+            "  --rolls <n>         maximum rolls per session (default 1000)",
+            "  --seed <n>          master seed (default random, reported in the summary)",
+            "  --threads <n>       worker threads (default one per core)",
+            "  --shards <n>        shards the sessions are split into, at most one per session (default 64);",
+            "                      results for a seed depend on the shards but not on the threads",
+            "  --format <name>     csv, json or binary (default csv)",
+            "  --output <file>     file to write the results to (default standard output)",
+            "  --metrics <seconds> dump metrics to standard error at this period, with -Dcraps.metrics=true",
+            "  --help              print this help");
+
+    /**
+     * Runs the simulation described by the arguments, and exits with a non-zero status on errors.
+     *
+     * @param args the command-line arguments, see {@link App#USAGE}
+     */
     public static void main(String[] args) {
-        System.out.println( "Hello World!" );
+        int status = run(args, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the simulation described by the arguments.
+     *
+     * @param args the command-line arguments, see {@link App#USAGE}
+     * @param out  where the results go unless an output file is given
+     * @param err  where the summary and errors go
+     * @return the exit status: 0 on success, 1 if the results could not be written, 2 for invalid arguments
+     */
+    public static int run(String[] args, OutputStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        if (options.help) {
+            err.println(USAGE);
+            return 0;
+        }
+
+        ScheduledFuture<?> dump = null;
+        if (Metrics.ENABLED) {
+            Metrics.register();
+            if (options.metrics > 0) {
+                dump = Metrics.startDump(err, options.metrics, TimeUnit.SECONDS);
+            }
+        } else if (options.metrics > 0) {
+            err.println("Metrics are off, start the JVM with -Dcraps.metrics=true to record them");
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(options.threads);
+        try (ResultWriter writer = ResultWriter.of(options.format, open(options, out))) {
+            Simulator simulator = new Simulator(options.strategy(), options.shards, pool);
+            long start = System.nanoTime();
+            SimulationResult total = simulator.run(options.sessions, options.rolls, options.seed, (result, shard) -> {
+                try {
+                    writer.write(shard, result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            long elapsed = System.nanoTime() - start;
+            writer.write(ResultWriter.TOTAL, total);
+
+            Runtime runtime = Runtime.getRuntime();
+            err.printf(Locale.ROOT, "%d sessions, %d rolls in %.3f s: %.0f rolls/s, heap %d MiB used of %d MiB "
+                            + "(seed %d, %d threads, %d shards)%n",
+                    total.getSessions(), total.getRolls(), elapsed / 1e9, total.getRolls() * 1e9 / elapsed,
+                    (runtime.totalMemory() - runtime.freeMemory()) >> 20, runtime.maxMemory() >> 20,
+                    options.seed, options.threads, options.shards);
+            if (Metrics.ENABLED) {
+                err.print(Metrics.report());
+            }
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            err.println("Could not write the results: " + e.getMessage());
+            return 1;
+        } finally {
+            if (dump != null) {
+                dump.cancel(false);
+            }
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Opens the output file of the options, or wraps the given stream so that closing the {@link ResultWriter} only
+     * flushes it.
+     */
+    private static OutputStream open(Options options, OutputStream out) throws IOException {
+        if (options.output != null) {
+            return Files.newOutputStream(Paths.get(options.output));
+        }
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    /**
+     * The parsed command-line arguments. Options are given as {@code --name value} or {@code --name=value}.
+     */
+    static final class Options {
+
+        /**
+         * The number of shards unless given. This is fixed rather than derived from the number of threads, so that a
+         * seed gives the same results on any machine, and large enough to keep the threads of most machines busy.
+         */
+        static final int DEFAULT_SHARDS = 64;
+
+        String strategy = "passline";
+        long stake = 100;
+        long bet = 1;
+        long sessions = 10_000;
+        int rolls = 1000;
+        long seed = new SplittableRandom().nextLong();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int shards;
+        String format = "csv";
+        String output;
+        int metrics;
+        boolean help;
+
+        /**
+         * Parses the command-line arguments.
+         *
+         * @param args the command-line arguments
+         * @return the options
+         * @throws IllegalArgumentException for unknown options and invalid values
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                String value = null;
+                int equals = name.indexOf('=');
+                if (equals >= 0) {
+                    value = name.substring(equals + 1);
+                    name = name.substring(0, equals);
+                }
+                if (name.equals("--help") || name.equals("-h")) {
+                    options.help = true;
+                    continue;
+                }
+                if (value == null) {
+                    if (i + 1 == args.length) {
+                        throw new IllegalArgumentException("Missing value for " + name);
+                    }
+                    value = args[++i];
+                }
+                options.set(name, value);
+            }
+
+            if (options.stake <= 0 || options.bet <= 0) {
+                throw new IllegalArgumentException("The stake and the bet must be positive");
+            }
+            if (options.sessions < 1 || options.rolls < 1 || options.threads < 1) {
+                throw new IllegalArgumentException("Sessions, rolls and threads must be positive");
+            }
+            if (options.shards == 0) {
+                options.shards = DEFAULT_SHARDS;
+            } else if (options.shards < 1) {
+                throw new IllegalArgumentException("Shards must be positive");
+            }
+            // A shard without sessions would only write a record with no statistics.
+            options.shards = (int) Math.min(options.shards, options.sessions);
+            if (options.metrics < 0) {
+                throw new IllegalArgumentException("The metrics period cannot be negative");
+            }
+            options.strategy();
+            if (!ResultWriter.FORMATS.contains(options.format.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Unknown format " + options.format + ", expected one of "
+                        + ResultWriter.FORMATS);
+            }
+            return options;
+        }
+
+        private void set(String name, String value) {
+            try {
+                switch (name) {
+                    case "--strategy":
+                        strategy = value;
+                        break;
+                    case "--stake":
+                        stake = Long.parseLong(value);
+                        break;
+                    case "--bet":
+                        bet = Long.parseLong(value);
+                        break;
+                    case "--sessions":
+                        sessions = Long.parseLong(value);
+                        break;
+                    case "--rolls":
+                        rolls = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--shards":
+                        shards = Integer.parseInt(value);
+                        break;
+                    case "--format":
+                        format = value;
+                        break;
+                    case "--output":
+                        output = value;
+                        break;
+                    case "--metrics":
+                        metrics = Integer.parseInt(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + name + ": " + value);
+            }
+        }
+
+        /**
+         * Returns the strategy named by the options, with the stake and bet converted to fixed-point units.
+         *
+         * @return creates a {@link Player} for each session
+         */
+        Supplier<Player> strategy() {
+            long stakeUnits = Money.of(stake);
+            long betUnits = Money.of(bet);
+            switch (strategy.toLowerCase(Locale.ROOT)) {
+                case "passline":
+                    return () -> new PassLinePlayer(stakeUnits, betUnits);
+                case "martingale":
+                    return () -> new Martingale(stakeUnits, betUnits);
+                case "fibonacci":
+                    return () -> new Fibonacci(stakeUnits, betUnits);
+                default:
+                    throw new IllegalArgumentException("Unknown strategy " + strategy
+                            + ", expected passline, martingale or fibonacci");
+            }
+        }
     }
 }
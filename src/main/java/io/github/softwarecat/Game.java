@@ -24,87 +24,238 @@
 
 package io.github.softwarecat;
 
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.metrics.Metrics;
+
 /**
- * {@link Game} is a preliminary design for the game of Craps. This initial design contains the interface used by
- * the {@link io.github.softwarecat.dice.Throw} class hierarchy to implement game state changes.
+ * {@link Game} is the state machine of the game of Craps. The state is the current point, which is zero when the point
+ * is off and the next throw is a come out roll.
+ * <p>
+ * The transitions are precomputed into tables indexed by the current point and the sum of the dice, so advancing the
+ * game with {@link Game#roll(Throw)} is a single array lookup, with no branching on the kind of {@link Throw}. Each
+ * throw produces one of the events {@link Game#NO_DECISION}, {@link Game#COME_OUT_WIN}, {@link Game#COME_OUT_CRAPS},
+ * {@link Game#POINT_ESTABLISHED}, {@link Game#POINT_MADE} or {@link Game#SEVEN_OUT}, which is passed to the
+ * {@link GameListener} to settle bets.
  */
 public class Game {
 
     /**
-     * The current point. This will be replaced by a proper State design pattern.
+     * The throw did not decide the Pass Line: a point was neither established, made nor lost.
+     */
+    public static final int NO_DECISION = 0;
+
+    /**
+     * A come out roll of 7 or 11. Pass Line bets win; Don't Pass bets lose.
+     */
+    public static final int COME_OUT_WIN = 1;
+
+    /**
+     * A come out roll of 2, 3 or 12. Pass Line bets lose; Don't Pass bets win, except on 12 which is a push.
+     */
+    public static final int COME_OUT_CRAPS = 2;
+
+    /**
+     * A come out roll of 4, 5, 6, 8, 9 or 10, which becomes the point.
+     */
+    public static final int POINT_ESTABLISHED = 3;
+
+    /**
+     * The point was thrown again before a 7. Pass Line bets win; Don't Pass bets lose; the point is turned off.
+     */
+    public static final int POINT_MADE = 4;
+
+    /**
+     * A 7 was thrown while the point was on. Pass Line bets lose; Don't Pass bets win; the point is turned off.
+     */
+    public static final int SEVEN_OUT = 5;
+
+    /**
+     * The number of rows of the transition tables: one per point value from 0 to 10.
+     */
+    private static final int POINTS = 11;
+
+    /**
+     * The number of columns of the transition tables: one per sum of the dice from 0 to 12.
+     */
+    private static final int SUMS = 13;
+
+    /**
+     * The point after a throw, indexed by {@code point * SUMS + sum}.
+     */
+    private static final byte[] NEXT_POINT = new byte[POINTS * SUMS];
+
+    /**
+     * The event of a throw, indexed by {@code point * SUMS + sum}.
+     */
+    private static final byte[] EVENT = new byte[POINTS * SUMS];
+
+    static {
+        for (int point = 0; point < POINTS; point++) {
+            for (int sum = 0; sum < SUMS; sum++) {
+                int cell = point * SUMS + sum;
+                NEXT_POINT[cell] = (byte) point;
+                EVENT[cell] = NO_DECISION;
+
+                if (point == 0) {
+                    if (sum == 7 || sum == 11) {
+                        EVENT[cell] = COME_OUT_WIN;
+                    } else if (sum == 2 || sum == 3 || sum == 12) {
+                        EVENT[cell] = COME_OUT_CRAPS;
+                    } else if (isPoint(sum)) {
+                        EVENT[cell] = POINT_ESTABLISHED;
+                        NEXT_POINT[cell] = (byte) sum;
+                    }
+                } else if (isPoint(point)) {
+                    if (sum == point) {
+                        EVENT[cell] = POINT_MADE;
+                        NEXT_POINT[cell] = 0;
+                    } else if (sum == 7) {
+                        EVENT[cell] = SEVEN_OUT;
+                        NEXT_POINT[cell] = 0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The current point, or zero when the point is off.
      */
     protected int point = 0;
 
     /**
-     * Creates this {@link Game}. This will be replaced by a constructor that uses Dice and CrapsTable.
+     * Notified of the event of every throw, to settle bets.
+     */
+    protected GameListener listener;
+
+    /**
+     * Creates this {@link Game} with the point off and no {@link GameListener}.
      */
     public Game() {
+        this(GameListener.NONE);
     }
 
     /**
-     * Resolves all current 1-roll bets.
-     * If the point is zero, this was a come out roll: Pass Line bets are an immediate loss, Don’t Pass
-     * Line bets are an immediate win.
-     * If the point is non-zero, Come Line bets are an immediate loss; Don’t Come Line bets are an
-     * immediate win.
-     * The state doesn’t change.
-     * A future version will delegate responsibility to the craps() method of a current state object.
+     * Creates this {@link Game} with the point off.
+     *
+     * @param listener notified of the event of every throw
      */
-    public void craps() {
+    public Game(GameListener listener) {
+        this.listener = listener;
+    }
 
+    /**
+     * Returns true if the given sum of the dice can be a point.
+     *
+     * @param sum the sum of the dice
+     * @return true for 4, 5, 6, 8, 9 and 10
+     */
+    public static boolean isPoint(int sum) {
+        return sum >= 4 && sum <= 10 && sum != 7;
     }
 
     /**
-     * Resolves all current 1-roll bets.
-     * If the point is zero, this was a come out roll: Pass Line bets are an immediate win; Don’t Pass
-     * Line bets are an immediate loss.
-     * If the point is non-zero, Come Line bets are an immediate win; Don’t Come bets are an immediate
-     * loss; the point is also reset to zero because the game is over.
-     * Also, hardways bets are all losses.
-     * A future version will delegate responsibility to the natural() method of a current state object.
+     * Returns the event of throwing the given sum with the given point.
+     *
+     * @param point the current point, or zero when the point is off
+     * @param sum   the sum of the dice
+     * @return one of the event constants of {@link Game}
      */
-    public void natural() {
+    public static int event(int point, int sum) {
+        return EVENT[point * SUMS + sum];
+    }
 
+    /**
+     * Returns the point after throwing the given sum with the given point.
+     *
+     * @param point the current point, or zero when the point is off
+     * @param sum   the sum of the dice
+     * @return the new point, or zero when the point is turned off
+     */
+    public static int nextPoint(int point, int sum) {
+        return NEXT_POINT[point * SUMS + sum];
     }
 
     /**
-     * Resolves all current 1-roll bets.
-     * If the point is zero, this is a come out roll: Pass Line bets are an immediate win; Don’t Pass Line
-     * bets are an immediate loss.
-     * If the point is non-zero, Come Line bets are an immediate win; Don’t Come bets are an immediate
-     * loss.
-     * The game state doesn’t change.
-     * A future version will delegate responsibility to the eleven() method of a current state object.
+     * Advances the state of the game by the given {@link Throw}, and passes the resulting event to the
+     * {@link GameListener} to resolve bets.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @return the event of the throw, one of the event constants of {@link Game}
      */
-    public void eleven() {
+    public int roll(Throw diceThrow) {
+        int previous = point;
+        int cell = previous * SUMS + diceThrow.getSum();
+        int event = EVENT[cell];
+        point = NEXT_POINT[cell];
+        if (Metrics.ENABLED) {
+            Metrics.rolled(diceThrow, previous, event);
+        }
+        listener.rolled(diceThrow, event, previous);
+        return event;
+    }
 
+    /**
+     * Advances the state of the game by a batch of throws, as selected by {@link Dice#nextBatch(int[], int)}.
+     *
+     * @param dice         the {@link Dice} the throws were selected from
+     * @param throwIndexes the indexes of the throws in the dense table of the {@link Dice}
+     * @param count        the number of throws in the batch
+     * @return the number of throws that decided the Pass Line
+     */
+    public int roll(Dice dice, int[] throwIndexes, int count) {
+        int decisions = 0;
+        for (int i = 0; i < count; i++) {
+            int event = roll(dice.throwAt(throwIndexes[i]));
+            if (event != NO_DECISION && event != POINT_ESTABLISHED) {
+                decisions++;
+            }
+        }
+        return decisions;
     }
 
     /**
-     * Resolves all current 1-roll bets.
-     * If the point was zero, this is a come out roll, and the value of the dice establishes the point.
-     * If the point was non-zero and this throw matches the point the game is over: Pass Line bets and
-     * associated odds bets are winners; Don’t Pass bets and associated odds bets are losers; the point
-     * is reset to zero.
-     * Finally, if the point is non-zero and this throw does not match the point, the state doesn’t change;
-     * however, Come point and Don’t come point bets may be resolved. Additionally, hardways bets
-     * may be resolved.
-     * A future version will delegate responsibility to the current state’s point() method to advance
-     * the game state.
+     * Gets the current point.
      *
-     * @param point the point value to set
+     * @return the current point, or zero when the point is off
      */
-    public void point(int point) {
-        if (this.point == 0) {
-            this.point = point;
+    public int getPoint() {
+        return point;
+    }
+
+    /**
+     * Sets the {@link GameListener} notified of the event of every throw.
+     *
+     * @param listener the {@link GameListener}
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Turns the point off, so that the next throw is a come out roll. This lets one {@link Game} be reused for many
+     * sessions.
+     */
+    public void reset() {
+        point = 0;
+    }
+
+    /**
+     * Sets the point, for example when a replay resumes from a checkpoint in the middle of a game.
+     *
+     * @param point the point, 4, 5, 6, 8, 9 or 10, or zero to turn the point off
+     */
+    public void restore(int point) {
+        if (point != 0 && !isPoint(point)) {
+            throw new IllegalArgumentException(point + " cannot be a point");
         }
+        this.point = point;
     }
 
     /**
      * An easy-to-read String output method is also very handy. This should return a String representation
-     * of the current state. The stub version of this class has no internal state object. This
-     * class can simply return a string representation of the point; and the string "Point Off" when
-     * point is zero.
+     * of the current state: the string "Point Off" when point is zero, otherwise the point.
      *
      * @return a String representation of the current state
      */
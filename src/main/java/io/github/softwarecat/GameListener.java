@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat;
+
+import io.github.softwarecat.dice.Throw;
+
+/**
+ * {@link GameListener} is notified by a {@link Game} of the event of every throw, and is where bets are settled.
+ */
+@FunctionalInterface
+public interface GameListener {
+
+    /**
+     * A {@link GameListener} that ignores every throw.
+     */
+    GameListener NONE = (diceThrow, event, point) -> {
+    };
+
+    /**
+     * Called after the {@link Game} has advanced its state for a throw.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @param event     the event of the throw, one of the event constants of {@link Game}
+     * @param point     the point when the dice were thrown, or zero for a come out roll
+     */
+    void rolled(Throw diceThrow, int event, int point);
+}
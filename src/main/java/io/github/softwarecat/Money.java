@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat;
+
+import org.apache.commons.lang3.math.Fraction;
+
+/**
+ * {@link Money} converts between whole betting units and the fixed-point {@code long} amounts used on the payout hot
+ * path.
+ * <p>
+ * One betting unit is {@link Money#SCALE} fixed-point units. Sixty is divisible by 2, 3, 4, 5 and 6, so payouts at
+ * odds such as 3:2, 6:5, 7:6 and 9:5 on whole-unit bets are exact and need no {@link Fraction}.
+ */
+public final class Money {
+
+    /**
+     * The number of fixed-point units in one betting unit.
+     */
+    public static final long SCALE = 60;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a number of whole betting units to fixed-point units.
+     *
+     * @param amount the number of betting units
+     * @return the amount in fixed-point units
+     */
+    public static long of(long amount) {
+        return Math.multiplyExact(amount, SCALE);
+    }
+
+    /**
+     * Converts an amount in fixed-point units to betting units.
+     *
+     * @param units the amount in fixed-point units
+     * @return the number of betting units
+     */
+    public static double toDouble(long units) {
+        return (double) units / SCALE;
+    }
+
+    /**
+     * Converts an amount in fixed-point units to an exact {@link Fraction} of betting units. This allocates, and is
+     * meant for reporting rather than the hot path.
+     *
+     * @param units the amount in fixed-point units, which must fit in an int
+     * @return the number of betting units
+     */
+    public static Fraction toFraction(long units) {
+        return Fraction.getFraction(Math.toIntExact(units), (int) SCALE);
+    }
+}
@@ -26,20 +26,69 @@ package io.github.softwarecat;
 
 import org.apache.commons.lang3.math.Fraction;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Outcome contains a single outcome on which a bet can be placed.
+ * <p>
+ * Outcomes are immutable, and are interned in a registry keyed by name and odds in lowest terms. Each distinct
+ * {@link Outcome} gets a dense integer id, starting at zero, so two {@link Outcome}s are equal exactly when their ids
+ * are equal. {@link Outcome#of(String, int, int)} returns the shared instance; the constructors create a new instance
+ * that carries the same id. Ids are never freed, so every distinct name and odds stays interned for the life of the JVM;
+ * a {@link io.github.softwarecat.dice.Throw} tests the low ids with a single bit and any higher ones with a word of its
+ * larger mask.
  */
 public class Outcome {
 
+    /**
+     * The interned {@link Outcome}s, keyed by name and odds in lowest terms.
+     */
+    private static final Map<Key, Outcome> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * The interned {@link Outcome}s, indexed by id. This array is replaced, never modified, when an {@link Outcome}
+     * is interned.
+     */
+    private static volatile Outcome[] byId = new Outcome[0];
+
+    /**
+     * The number of whole-unit bet sizes, starting from zero, whose winnings are precomputed for every {@link Outcome}.
+     */
+    public static final int PAYOUT_CACHE_UNITS = 256;
+
     /**
      * Holds the name of the Outcome. Examples include "1", "Red", "Pass Line".
      */
-    protected String name;
+    protected final String name;
 
     /**
      * Holds the fractional odds for this Outcome. This is the multiplier for the win amount.
      */
-    protected Fraction odds;
+    protected final Fraction odds;
+
+    /**
+     * The numerator of {@link Outcome#odds} in lowest terms, kept as a primitive for {@link Outcome#winUnits(long)}.
+     */
+    protected final int numerator;
+
+    /**
+     * The denominator of {@link Outcome#odds} in lowest terms, kept as a primitive for {@link Outcome#winUnits(long)}.
+     */
+    protected final int denominator;
+
+    /**
+     * The dense id of this {@link Outcome} in the registry. This is also its hash code.
+     */
+    protected final int id;
+
+    /**
+     * The winnings of a bet of each whole number of betting units, in fixed-point units, indexed by the number of
+     * units. Computed once for the interned {@link Outcome} and shared by every instance with the same id.
+     */
+    protected final long[] payouts;
 
     /**
      * Sets the name and odds from the parameters.
@@ -71,8 +120,119 @@ public class Outcome {
      * @param odds the payout odds as a fraction
      */
     public Outcome(String name, Fraction odds) {
-        this.name = name;
+        this(name, odds, of(name, odds));
+    }
+
+    /**
+     * Sets the name and odds from the parameters, sharing the id and payouts of the interned {@link Outcome}.
+     *
+     * @param name     the name of this outcome
+     * @param odds     the payout odds as a fraction
+     * @param interned the interned {@link Outcome} with the same name and odds
+     */
+    private Outcome(String name, Fraction odds, Outcome interned) {
+        this(name, odds, interned.id, interned.payouts);
+    }
+
+    /**
+     * Sets the name, odds, id and payouts from the parameters.
+     *
+     * @param name    the name of this outcome
+     * @param odds    the payout odds as a fraction
+     * @param id      the id of this outcome in the registry
+     * @param payouts the precomputed payouts to share, or null to compute them
+     */
+    private Outcome(String name, Fraction odds, int id, long[] payouts) {
+        this.name = Objects.requireNonNull(name);
         this.odds = odds;
+        Fraction reduced = odds.reduce();
+        this.numerator = reduced.getNumerator();
+        this.denominator = reduced.getDenominator();
+        this.id = id;
+        if (payouts == null) {
+            payouts = new long[PAYOUT_CACHE_UNITS];
+            for (int units = 0; units < payouts.length; units++) {
+                payouts[units] = Money.of(units) * numerator / denominator;
+            }
+        }
+        this.payouts = payouts;
+    }
+
+    /**
+     * Returns the interned {@link Outcome} with the given name and odds, creating it if needed.
+     * The denominator will be 1.
+     *
+     * @param name the name of the outcome
+     * @param odds the payout odds numerator
+     * @return the interned {@link Outcome}
+     */
+    public static Outcome of(String name, int odds) {
+        return of(name, odds, 1);
+    }
+
+    /**
+     * Returns the interned {@link Outcome} with the given name and odds, creating it if needed.
+     *
+     * @param name        the name of the outcome
+     * @param numerator   the payout odds numerator
+     * @param denominator the payout odds denominator
+     * @return the interned {@link Outcome}
+     */
+    public static Outcome of(String name, int numerator, int denominator) {
+        return of(name, Fraction.getFraction(numerator, denominator));
+    }
+
+    /**
+     * Returns the interned {@link Outcome} with the given name and odds, creating it if needed.
+     *
+     * @param name the name of the outcome
+     * @param odds the payout odds as a fraction
+     * @return the interned {@link Outcome}
+     */
+    public static Outcome of(String name, Fraction odds) {
+        Key key = new Key(name, odds.reduce());
+        Outcome outcome = REGISTRY.get(key);
+        return outcome != null ? outcome : intern(key, odds);
+    }
+
+    /**
+     * Adds a new {@link Outcome} to the registry, unless another thread got there first.
+     *
+     * @param key  the registry key
+     * @param odds the payout odds as a fraction
+     * @return the interned {@link Outcome}
+     */
+    private static synchronized Outcome intern(Key key, Fraction odds) {
+        Outcome outcome = REGISTRY.get(key);
+        if (outcome == null) {
+            Outcome[] outcomes = byId;
+            outcome = new Outcome(key.name, odds, outcomes.length, null);
+            Outcome[] grown = Arrays.copyOf(outcomes, outcomes.length + 1);
+            grown[outcome.id] = outcome;
+            byId = grown;
+            REGISTRY.put(key, outcome);
+        }
+        return outcome;
+    }
+
+    /**
+     * Returns the interned {@link Outcome} with the given id.
+     *
+     * @param id the id of the {@link Outcome}
+     * @return the interned {@link Outcome}
+     * @throws IndexOutOfBoundsException if no {@link Outcome} has that id
+     */
+    public static Outcome forId(int id) {
+        return byId[id];
+    }
+
+    /**
+     * Returns the number of distinct {@link Outcome}s interned so far. Ids range from zero to this value (exclusive).
+     *
+     * @return the number of interned {@link Outcome}s
+     */
+    public static int count() {
+        return byId.length;
     }
 
     /**
@@ -92,7 +252,72 @@ public class Outcome {
      * @return the amount won
      */
     Fraction winAmount(int amount) {
-        return odds.multiplyBy(Fraction.getFraction(amount));
+        return Fraction.getReducedFraction(Math.multiplyExact(amount, numerator), denominator);
+    }
+
+    /**
+     * Returns the product of this {@link Outcome}‘s odds by the given amount, without allocating. Both amounts are in
+     * the fixed-point units of {@link Money}. The result is rounded down, and is exact whenever the bet is a whole
+     * number of betting units and the odds denominator divides {@link Money#SCALE}.
+     * <p>
+     * Bets of a whole number of betting units below {@link Outcome#PAYOUT_CACHE_UNITS} read their winnings from a
+     * precomputed table. Division by the constant {@link Money#SCALE} compiles to a multiply and a shift, so the
+     * common bet sizes skip the division by the odds denominator.
+     *
+     * @param amount amount of the bet, in fixed-point units
+     * @return the amount won, in fixed-point units
+     */
+    public long winUnits(long amount) {
+        long units = amount / Money.SCALE;
+        if (units >= 0 && units < PAYOUT_CACHE_UNITS && units * Money.SCALE == amount) {
+            return payouts[(int) units];
+        }
+        return amount * numerator / denominator;
+    }
+
+    /**
+     * Gets the name of this {@link Outcome}.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the odds of this {@link Outcome}.
+     *
+     * @return the odds
+     */
+    public Fraction getOdds() {
+        return odds;
+    }
+
+    /**
+     * Gets the dense id of this {@link Outcome} in the registry.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the numerator of the odds, in lowest terms.
+     *
+     * @return the odds numerator
+     */
+    public int getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * Gets the denominator of the odds, in lowest terms.
+     *
+     * @return the odds denominator
+     */
+    public int getDenominator() {
+        return denominator;
     }
 
     /**
@@ -105,4 +330,65 @@ public class Outcome {
     public String toString() {
         return String.format("%s (%d:%d)", name, odds.getNumerator(), odds.getDenominator());
     }
+
+    /**
+     * Two {@link Outcome}s are equal when they have the same name and the same odds in lowest terms, which is exactly
+     * when they have the same id.
+     *
+     * @param o the object to compare with
+     * @return true if the given object is an equal {@link Outcome}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Outcome)) {
+            return false;
+        }
+        return id == ((Outcome) o).id;
+    }
+
+    /**
+     * The hash code is the dense id, so {@link Outcome}s never collide in hash tables.
+     *
+     * @return the id of this {@link Outcome}
+     */
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    /**
+     * The registry key of an {@link Outcome}: its name and its odds in lowest terms.
+     */
+    private static final class Key {
+
+        private final String name;
+        private final int numerator;
+        private final int denominator;
+
+        private Key(String name, Fraction reduced) {
+            this.name = Objects.requireNonNull(name);
+            this.numerator = reduced.getNumerator();
+            this.denominator = reduced.getDenominator();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return numerator == key.numerator && denominator == key.denominator && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return (name.hashCode() * 31 + numerator) * 31 + denominator;
+        }
+    }
 }
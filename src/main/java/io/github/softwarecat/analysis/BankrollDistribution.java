@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.analysis;
+
+/**
+ * {@link BankrollDistribution} is the exact distribution of a player's bankroll after a number of throws, as solved
+ * by a {@link BankrollSolver}. The bankroll counts the bets still on the table, as {@link
+ * io.github.softwarecat.player.Player#getBankroll()} does. A session ends in one of three ways: ruin, when the player
+ * can no longer cover the bet schedule; reaching the goal; or still playing when the throws run out.
+ */
+public class BankrollDistribution {
+
+    /**
+     * The probability of each bankroll, indexed by bankroll in units.
+     */
+    protected final double[] probabilities;
+
+    /**
+     * The probability that the player was ruined.
+     */
+    protected final double ruin;
+
+    /**
+     * The probability that the player reached the goal.
+     */
+    protected final double goal;
+
+    /**
+     * The number of throws solved for.
+     */
+    protected final int rolls;
+
+    /**
+     * Creates this {@link BankrollDistribution}.
+     *
+     * @param probabilities the probability of each bankroll, indexed by bankroll in units; not copied
+     * @param ruin          the probability that the player was ruined
+     * @param goal          the probability that the player reached the goal
+     * @param rolls         the number of throws solved for
+     */
+    public BankrollDistribution(double[] probabilities, double ruin, double goal, int rolls) {
+        this.probabilities = probabilities;
+        this.ruin = ruin;
+        this.goal = goal;
+        this.rolls = rolls;
+    }
+
+    /**
+     * Returns the probability of ending with the given bankroll.
+     *
+     * @param bankroll the bankroll in units
+     * @return the probability of the bankroll
+     */
+    public double probability(int bankroll) {
+        return bankroll < 0 || bankroll >= probabilities.length ? 0 : probabilities[bankroll];
+    }
+
+    /**
+     * Returns the probability of ending with at least the given bankroll.
+     *
+     * @param bankroll the bankroll in units
+     * @return the probability of the bankroll or more
+     */
+    public double probabilityAtLeast(int bankroll) {
+        double total = 0;
+        for (int b = Math.max(bankroll, 0); b < probabilities.length; b++) {
+            total += probabilities[b];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the expected final bankroll.
+     *
+     * @return the mean bankroll in units
+     */
+    public double getMean() {
+        double mean = 0;
+        for (int bankroll = 0; bankroll < probabilities.length; bankroll++) {
+            mean += bankroll * probabilities[bankroll];
+        }
+        return mean;
+    }
+
+    /**
+     * Returns the probability that the player was ruined: left without enough to cover the bet schedule.
+     *
+     * @return the probability of ruin
+     */
+    public double getRuinProbability() {
+        return ruin;
+    }
+
+    /**
+     * Returns the probability that the player reached the goal and stopped.
+     *
+     * @return the probability of reaching the goal, or zero without a goal
+     */
+    public double getGoalProbability() {
+        return goal;
+    }
+
+    /**
+     * Returns the probability that the player was still playing when the throws ran out. Solving for more throws
+     * drives this towards zero, which turns the ruin and goal probabilities into the probabilities of ruin before
+     * the goal and the goal before ruin.
+     *
+     * @return the probability that the session was undecided
+     */
+    public double getUndecidedProbability() {
+        return Math.max(0, 1 - ruin - goal);
+    }
+
+    /**
+     * Gets the number of throws solved for.
+     *
+     * @return the number of throws
+     */
+    public int getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the highest bankroll the distribution covers.
+     *
+     * @return the highest bankroll in units
+     */
+    public int getMaxBankroll() {
+        return probabilities.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rolls, mean %.4f, ruin %.6f, goal %.6f", rolls, getMean(), ruin, goal);
+    }
+}
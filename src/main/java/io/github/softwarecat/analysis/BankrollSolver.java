@@ -0,0 +1,397 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.analysis;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.table.TableOutcomes;
+import org.apache.commons.lang3.math.Fraction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * {@link BankrollSolver} computes the exact distribution of a bankroll after a number of throws, for a player who
+ * follows a fixed bet schedule: the same Pass Line bet on every come out roll, backed by a fixed multiple of free odds
+ * once a point is established. This answers questions such as the chance of doubling a bankroll before ruin without
+ * simulating any sessions.
+ * <p>
+ * The state of a session is its cash, the bankroll less the bets on the table, in whole units, and the point of the
+ * {@link Game}. The probabilities of the states are kept in one dense {@code double[]}, bankroll by bankroll, with a
+ * cell for the come out and one for each point. Each throw moves probability along the transitions of
+ * {@link Game#event(int, int)} and {@link Game#nextPoint(int, int)}, weighted by the probability of each sum of the
+ * {@link Dice}. Every transition shifts the cash by an amount that only depends on the point, so each new cell is
+ * pulled from a few cells of the previous throw; slices of bankrolls are therefore independent and are solved in
+ * parallel on a {@link ForkJoinPool}.
+ * <p>
+ * A player who cannot cover the whole schedule, the line bet and its odds, on a come out roll is ruined and stops.
+ * A player whose bankroll reaches the win goal stops too. Unlike a {@link io.github.softwarecat.player.Player}, the
+ * schedule never bets less than its amounts, so every payout is a whole number of units.
+ */
+public class BankrollSolver {
+
+    /**
+     * The fewest bankrolls in one slice of a parallel step. Smaller ranges are solved on the calling thread.
+     */
+    public static final int MIN_SLICE = 4096;
+
+    /**
+     * The point of each point state: the come out first, then the six points.
+     */
+    private static final int[] POINTS = {0, 4, 5, 6, 8, 9, 10};
+
+    /**
+     * The number of point states, and so of cells, per bankroll.
+     */
+    private static final int STATES = POINTS.length;
+
+    /**
+     * The point state of each point, indexed by point.
+     */
+    private static final int[] STATE = new int[11];
+
+    static {
+        for (int state = 0; state < STATES; state++) {
+            STATE[POINTS[state]] = state;
+        }
+    }
+
+    /**
+     * The Pass Line bet of every come out roll, in units.
+     */
+    protected final int lineBet;
+
+    /**
+     * The odds bet behind each point, in units, indexed by point state.
+     */
+    protected final int[] oddsBets = new int[STATES];
+
+    /**
+     * The winnings of the odds bet when each point is made, in units, indexed by point state.
+     */
+    protected final int[] oddsWinnings = new int[STATES];
+
+    /**
+     * The smallest cash that covers the schedule on a come out roll.
+     */
+    protected final int required;
+
+    /**
+     * The source point state of each transition, indexed by destination point state.
+     */
+    protected final int[][] sources;
+
+    /**
+     * The change in cash of each transition, indexed by destination point state.
+     */
+    protected final int[][] cashChanges;
+
+    /**
+     * The probability of each transition, indexed by destination point state.
+     */
+    protected final double[][] probabilities;
+
+    /**
+     * The largest gain in cash of one throw.
+     */
+    protected final int maxGain;
+
+    /**
+     * The largest loss in cash of one throw.
+     */
+    protected final int maxLoss;
+
+    /**
+     * The pool solving the slices.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Creates a {@link BankrollSolver} running on the common {@link ForkJoinPool}.
+     *
+     * @param dice         the {@link Dice} whose throws are equally likely
+     * @param lineBet      the Pass Line bet of every come out roll, in units
+     * @param oddsMultiple the odds bet as a multiple of the line bet, or zero for no odds
+     */
+    public BankrollSolver(Dice dice, int lineBet, int oddsMultiple) {
+        this(dice, lineBet, oddsMultiple, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link BankrollSolver}.
+     *
+     * @param dice         the {@link Dice} whose throws are equally likely
+     * @param lineBet      the Pass Line bet of every come out roll, in units
+     * @param oddsMultiple the odds bet as a multiple of the line bet, or zero for no odds
+     * @param pool         the pool solving the slices
+     */
+    public BankrollSolver(Dice dice, int lineBet, int oddsMultiple, ForkJoinPool pool) {
+        if (lineBet <= 0) {
+            throw new IllegalArgumentException("The line bet must be positive");
+        }
+        if (oddsMultiple < 0) {
+            throw new IllegalArgumentException("The odds multiple cannot be negative");
+        }
+        Collection<Throw> throwList = dice.getThrows();
+        if (throwList.isEmpty()) {
+            throw new IllegalArgumentException("The dice have no throws to analyze");
+        }
+        this.lineBet = lineBet;
+        this.pool = pool;
+
+        int odds = Math.multiplyExact(lineBet, oddsMultiple);
+        for (int state = 1; state < STATES; state++) {
+            Fraction winnings = TableOutcomes.passOdds(POINTS[state]).getOdds().multiplyBy(Fraction.getFraction(odds, 1));
+            if (winnings.getDenominator() != 1) {
+                throw new IllegalArgumentException("Odds of " + odds + " units do not pay a whole number of units on "
+                        + POINTS[state]);
+            }
+            oddsBets[state] = odds;
+            oddsWinnings[state] = winnings.getNumerator();
+        }
+        required = Math.addExact(lineBet, odds);
+
+        int[] sumCounts = new int[13];
+        for (Throw diceThrow : throwList) {
+            sumCounts[diceThrow.getSum()]++;
+        }
+
+        sources = new int[STATES][];
+        cashChanges = new int[STATES][];
+        probabilities = new double[STATES][];
+        int[][] sourceBuffer = new int[STATES][STATES * sumCounts.length];
+        int[][] changeBuffer = new int[STATES][STATES * sumCounts.length];
+        double[][] probabilityBuffer = new double[STATES][STATES * sumCounts.length];
+        int[] counts = new int[STATES];
+        int gain = 0;
+        int loss = 0;
+        for (int state = 0; state < STATES; state++) {
+            int point = POINTS[state];
+            for (int sum = 0; sum < sumCounts.length; sum++) {
+                if (sumCounts[sum] == 0) {
+                    continue;
+                }
+                int next = STATE[Game.nextPoint(point, sum)];
+                int change = cashChange(Game.event(point, sum), state, next);
+                int i = 0;
+                while (i < counts[next] && (sourceBuffer[next][i] != state || changeBuffer[next][i] != change)) {
+                    i++;
+                }
+                if (i == counts[next]) {
+                    sourceBuffer[next][i] = state;
+                    changeBuffer[next][i] = change;
+                    counts[next]++;
+                }
+                probabilityBuffer[next][i] += (double) sumCounts[sum] / throwList.size();
+                gain = Math.max(gain, change);
+                loss = Math.max(loss, -change);
+            }
+        }
+        for (int state = 0; state < STATES; state++) {
+            sources[state] = Arrays.copyOf(sourceBuffer[state], counts[state]);
+            cashChanges[state] = Arrays.copyOf(changeBuffer[state], counts[state]);
+            probabilities[state] = Arrays.copyOf(probabilityBuffer[state], counts[state]);
+        }
+        maxGain = gain;
+        maxLoss = loss;
+    }
+
+    /**
+     * Returns the change in cash of a throw. Bets leave the cash when they are placed, so a lost bet changes nothing,
+     * and a won bet returns the bet with its winnings.
+     *
+     * @param event the event of the throw, one of the event constants of {@link Game}
+     * @param state the point state before the throw
+     * @param next  the point state after the throw
+     * @return the change in cash, in units
+     */
+    private int cashChange(int event, int state, int next) {
+        switch (event) {
+            case Game.COME_OUT_WIN:
+                return lineBet;
+            case Game.COME_OUT_CRAPS:
+                return -lineBet;
+            case Game.POINT_ESTABLISHED:
+                return -lineBet - oddsBets[next];
+            case Game.POINT_MADE:
+                return 2 * lineBet + oddsBets[state] + oddsWinnings[state];
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Solves for the distribution of the bankroll after the given number of throws.
+     *
+     * @param stake   the starting bankroll, in units
+     * @param winGoal the win over the stake at which the player stops, or zero to play on
+     * @param rolls   the number of throws
+     * @return the distribution of the final bankroll
+     */
+    public BankrollDistribution solve(int stake, int winGoal, int rolls) {
+        if (stake < 0 || winGoal < 0 || rolls < 0) {
+            throw new IllegalArgumentException("The stake, win goal and rolls cannot be negative");
+        }
+        int goal = winGoal == 0 ? Integer.MAX_VALUE : Math.addExact(stake, winGoal);
+        long width = winGoal == 0 ? stake + (long) rolls * maxGain + 1 : (long) goal + maxGain;
+        if (width * STATES > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many bankroll states to solve: " + width);
+        }
+
+        double[] current = new double[(int) width * STATES];
+        double[] next = new double[current.length];
+        current[stake * STATES] = 1;
+        int low = stake;
+        int high = stake;
+        for (int roll = 0; roll < rolls; roll++) {
+            low = Math.max(0, low - maxLoss);
+            high = (int) Math.min(width - 1, (long) high + maxGain);
+            step(current, next, low, high + 1, goal);
+            double[] swap = current;
+            current = next;
+            next = swap;
+        }
+        return distribution(current, (int) width, goal, rolls);
+    }
+
+    /**
+     * Advances the probabilities of the given range of bankrolls by one throw, in slices on the pool when the range
+     * is large enough. The cells outside the range have no probability before or after the throw.
+     *
+     * @param current the probabilities before the throw
+     * @param next    the probabilities after the throw, overwritten in the range
+     * @param from    the first bankroll of the range
+     * @param to      the bankroll after the last of the range
+     * @param goal    the cash at which the player stops
+     */
+    protected void step(double[] current, double[] next, int from, int to, int goal) {
+        int slices = Math.min(pool.getParallelism(), (to - from + MIN_SLICE - 1) / MIN_SLICE);
+        if (slices <= 1) {
+            pull(current, next, from, to, goal);
+            return;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            int sliceFrom = from + (int) ((long) (to - from) * slice / slices);
+            int sliceTo = from + (int) ((long) (to - from) * (slice + 1) / slices);
+            tasks.add(() -> {
+                pull(current, next, sliceFrom, sliceTo, goal);
+                return null;
+            });
+        }
+        for (Future<Void> future : pool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a slice", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A slice of the solver failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Computes each cell of a slice of bankrolls from the cells of the previous throw that lead to it. A come out
+     * cell where the player has stopped keeps its own probability.
+     *
+     * @param current the probabilities before the throw
+     * @param next    the probabilities after the throw, overwritten in the slice
+     * @param from    the first bankroll of the slice
+     * @param to      the bankroll after the last of the slice
+     * @param goal    the cash at which the player stops
+     */
+    private void pull(double[] current, double[] next, int from, int to, int goal) {
+        int width = current.length / STATES;
+        for (int cash = from; cash < to; cash++) {
+            int cell = cash * STATES;
+            for (int state = 0; state < STATES; state++) {
+                int[] source = sources[state];
+                int[] change = cashChanges[state];
+                double[] probability = probabilities[state];
+                double total = 0;
+                for (int i = 0; i < source.length; i++) {
+                    int sourceCash = cash - change[i];
+                    if (sourceCash >= 0 && sourceCash < width
+                            && (source[i] != 0 || playing(sourceCash, goal))) {
+                        total += probability[i] * current[sourceCash * STATES + source[i]];
+                    }
+                }
+                if (state == 0 && !playing(cash, goal)) {
+                    total += current[cell];
+                }
+                next[cell + state] = total;
+            }
+        }
+    }
+
+    /**
+     * Returns true if a player with the given cash on a come out roll places the schedule and plays on.
+     *
+     * @param cash the cash
+     * @param goal the cash at which the player stops
+     * @return true if the cash covers the schedule and is below the goal
+     */
+    private boolean playing(int cash, int goal) {
+        return cash >= required && cash < goal;
+    }
+
+    /**
+     * Collects the probabilities of the cells into the distribution of the bankroll, counting the bets on the table.
+     *
+     * @param cells the probabilities of the cells
+     * @param width the number of bankrolls of the cells
+     * @param goal  the cash at which the player stops
+     * @param rolls the number of throws solved for
+     * @return the distribution of the bankroll
+     */
+    private BankrollDistribution distribution(double[] cells, int width, int goal, int rolls) {
+        double[] bankrolls = new double[width + required];
+        double ruin = 0;
+        double reached = 0;
+        for (int cash = 0; cash < width; cash++) {
+            int cell = cash * STATES;
+            double comeOut = cells[cell];
+            bankrolls[cash] += comeOut;
+            if (cash < required) {
+                ruin += comeOut;
+            } else if (cash >= goal) {
+                reached += comeOut;
+            }
+            for (int state = 1; state < STATES; state++) {
+                bankrolls[cash + lineBet + oddsBets[state]] += cells[cell + state];
+            }
+        }
+        return new BankrollDistribution(bankrolls, ruin, reached, rolls);
+    }
+}
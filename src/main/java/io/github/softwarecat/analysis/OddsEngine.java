@@ -0,0 +1,273 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.analysis;
+
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.dice.*;
+import org.apache.commons.lang3.math.Fraction;
+
+import java.util.Collection;
+
+/**
+ * {@link OddsEngine} computes exact odds for the {@link Throw}s of a {@link Dice}, instead of estimating them by
+ * simulation.
+ * <p>
+ * Each {@link Throw} added to the {@link Dice} is equally likely. The {@link Throw} subclasses determine how a throw
+ * moves the game: on the come out roll a {@link NaturalThrow} or {@link ElevenThrow} wins the Pass Line, a
+ * {@link CrapsThrow} loses it, and a {@link PointThrow} establishes a point. The game then stays on the point until the
+ * point or a {@link NaturalThrow} is thrown. The point states are the transient states of an absorbing Markov chain,
+ * and the Pass Line expectation follows from their absorption probabilities.
+ * <p>
+ * All results are exact {@link Fraction}s. Expectations and variances are per unit bet.
+ */
+public class OddsEngine {
+
+    /**
+     * The probability of throwing each sum of the dice, from 2 to 12. Indexed by the sum.
+     */
+    protected final Fraction[] sumProbability = new Fraction[13];
+
+    /**
+     * The probability of throwing each point, from 4 to 10. Indexed by the sum; other sums are zero.
+     */
+    protected final Fraction[] pointProbability = new Fraction[13];
+
+    /**
+     * The probability of a {@link NaturalThrow}.
+     */
+    protected Fraction natural = Fraction.ZERO;
+
+    /**
+     * The probability of an {@link ElevenThrow}.
+     */
+    protected Fraction eleven = Fraction.ZERO;
+
+    /**
+     * The probability of a {@link CrapsThrow} of 2 or 3.
+     */
+    protected Fraction crapsTwoThree = Fraction.ZERO;
+
+    /**
+     * The probability of a {@link CrapsThrow} of 12.
+     */
+    protected Fraction crapsTwelve = Fraction.ZERO;
+
+    /**
+     * The {@link Throw}s of the {@link Dice}, each with probability {@link OddsEngine#throwProbability}.
+     */
+    protected final Collection<Throw> throwList;
+
+    /**
+     * The probability of each {@link Throw}.
+     */
+    protected final Fraction throwProbability;
+
+    /**
+     * Builds the probabilities of the {@link Throw}s of the given {@link Dice}.
+     *
+     * @param dice the {@link Dice} to analyze
+     */
+    public OddsEngine(Dice dice) {
+        throwList = dice.getThrows();
+        if (throwList.isEmpty()) {
+            throw new IllegalArgumentException("The dice have no throws to analyze");
+        }
+        throwProbability = Fraction.getFraction(1, throwList.size());
+
+        for (int sum = 0; sum < sumProbability.length; sum++) {
+            sumProbability[sum] = Fraction.ZERO;
+            pointProbability[sum] = Fraction.ZERO;
+        }
+        for (Throw diceThrow : throwList) {
+            int sum = diceThrow.getSum();
+            sumProbability[sum] = sumProbability[sum].add(throwProbability);
+            if (diceThrow instanceof NaturalThrow) {
+                natural = natural.add(throwProbability);
+            } else if (diceThrow instanceof ElevenThrow) {
+                eleven = eleven.add(throwProbability);
+            } else if (diceThrow instanceof CrapsThrow) {
+                if (sum == 12) {
+                    crapsTwelve = crapsTwelve.add(throwProbability);
+                } else {
+                    crapsTwoThree = crapsTwoThree.add(throwProbability);
+                }
+            } else if (diceThrow instanceof PointThrow) {
+                pointProbability[sum] = pointProbability[sum].add(throwProbability);
+            }
+        }
+    }
+
+    /**
+     * Returns the probability of throwing the given sum.
+     *
+     * @param sum the sum of the dice
+     * @return the probability of the sum
+     */
+    public Fraction sumProbability(int sum) {
+        return sum < 0 || sum >= sumProbability.length ? Fraction.ZERO : sumProbability[sum];
+    }
+
+    /**
+     * Returns the probability that the given point is made before a seven: the absorption probability of the point
+     * state into the "point made" state.
+     *
+     * @param point the point, from 4 to 10
+     * @return the probability of making the point, or zero if the point can never be established
+     */
+    public Fraction pointMade(int point) {
+        Fraction made = point < 0 || point >= pointProbability.length ? Fraction.ZERO : pointProbability[point];
+        if (made.equals(Fraction.ZERO)) {
+            return Fraction.ZERO;
+        }
+        return made.divideBy(made.add(natural));
+    }
+
+    /**
+     * Returns the probability that a Pass Line bet wins.
+     *
+     * @return the probability of winning the Pass Line
+     */
+    public Fraction passLineWin() {
+        Fraction win = natural.add(eleven);
+        for (int point = 0; point < pointProbability.length; point++) {
+            win = win.add(pointProbability[point].multiplyBy(pointMade(point)));
+        }
+        return win;
+    }
+
+    /**
+     * Returns the expected value of a one unit Pass Line bet, which pays even money.
+     *
+     * @return the expectation of the Pass Line
+     */
+    public Fraction passLineExpectation() {
+        return passLineWin().multiplyBy(Fraction.getFraction(2)).subtract(Fraction.ONE);
+    }
+
+    /**
+     * Returns the variance of the result of a one unit Pass Line bet.
+     *
+     * @return the variance of the Pass Line
+     */
+    public Fraction passLineVariance() {
+        Fraction expectation = passLineExpectation();
+        return Fraction.ONE.subtract(expectation.multiplyBy(expectation));
+    }
+
+    /**
+     * Returns the probability that a Don't Pass bet wins. A 12 on the come out roll is a push.
+     *
+     * @return the probability of winning the Don't Pass
+     */
+    public Fraction dontPassWin() {
+        Fraction win = crapsTwoThree;
+        for (int point = 0; point < pointProbability.length; point++) {
+            if (!pointProbability[point].equals(Fraction.ZERO)) {
+                win = win.add(pointProbability[point].multiplyBy(Fraction.ONE.subtract(pointMade(point))));
+            }
+        }
+        return win;
+    }
+
+    /**
+     * Returns the expected value of a one unit Don't Pass bet, which pays even money.
+     *
+     * @return the expectation of the Don't Pass
+     */
+    public Fraction dontPassExpectation() {
+        Fraction win = dontPassWin();
+        Fraction lose = Fraction.ONE.subtract(win).subtract(crapsTwelve);
+        return win.subtract(lose);
+    }
+
+    /**
+     * Returns the variance of the result of a one unit Don't Pass bet.
+     *
+     * @return the variance of the Don't Pass
+     */
+    public Fraction dontPassVariance() {
+        Fraction expectation = dontPassExpectation();
+        Fraction decided = Fraction.ONE.subtract(crapsTwelve);
+        return decided.subtract(expectation.multiplyBy(expectation));
+    }
+
+    /**
+     * Returns the expected number of throws from the come out roll until the Pass Line is decided. Each point state
+     * is left with probability P(point) + P(seven) per throw, so it lasts 1 / (P(point) + P(seven)) throws on average.
+     *
+     * @return the expected number of throws per decision
+     */
+    public Fraction expectedRollsPerDecision() {
+        Fraction rolls = Fraction.ONE;
+        for (int point = 0; point < pointProbability.length; point++) {
+            if (!pointProbability[point].equals(Fraction.ZERO)) {
+                rolls = rolls.add(pointProbability[point].divideBy(pointProbability[point].add(natural)));
+            }
+        }
+        return rolls;
+    }
+
+    /**
+     * Returns the probability that the given one-roll {@link Outcome} wins on the next throw.
+     *
+     * @param outcome the {@link Outcome}
+     * @return the probability that a {@link Throw} is a winner for the {@link Outcome}
+     */
+    public Fraction winProbability(Outcome outcome) {
+        Fraction win = Fraction.ZERO;
+        for (Throw diceThrow : throwList) {
+            if (diceThrow.wins(outcome)) {
+                win = win.add(throwProbability);
+            }
+        }
+        return win;
+    }
+
+    /**
+     * Returns the expected value of a one unit bet on the given one-roll {@link Outcome}, which wins its odds on a
+     * winning {@link Throw} and loses the bet otherwise.
+     *
+     * @param outcome the {@link Outcome}
+     * @return the expectation of the bet
+     */
+    public Fraction expectation(Outcome outcome) {
+        Fraction win = winProbability(outcome);
+        return win.multiplyBy(outcome.getOdds()).subtract(Fraction.ONE.subtract(win));
+    }
+
+    /**
+     * Returns the variance of the result of a one unit bet on the given one-roll {@link Outcome}.
+     *
+     * @param outcome the {@link Outcome}
+     * @return the variance of the bet
+     */
+    public Fraction variance(Outcome outcome) {
+        Fraction win = winProbability(outcome);
+        Fraction odds = outcome.getOdds();
+        Fraction expectation = expectation(outcome);
+        Fraction secondMoment = win.multiplyBy(odds).multiplyBy(odds).add(Fraction.ONE.subtract(win));
+        return secondMoment.subtract(expectation.multiplyBy(expectation));
+    }
+}
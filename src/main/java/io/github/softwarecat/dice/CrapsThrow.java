@@ -24,7 +24,6 @@
 
 package io.github.softwarecat.dice;
 
-import io.github.softwarecat.Game;
 import io.github.softwarecat.Outcome;
 
 import java.util.Arrays;
@@ -90,14 +89,4 @@ public class CrapsThrow extends Throw {
     public boolean isHard() {
         return false;
     }
-
-    /**
-     * Calls the {@link Game#craps()} method of a {@link Game}. This may change the game state and resolve bets.
-     *
-     * @param game the {@link Game} to be updated based on this throw
-     */
-    @Override
-    public void updateGame(Game game) {
-        game.craps();
-    }
 }
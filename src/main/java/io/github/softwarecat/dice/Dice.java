@@ -35,20 +35,44 @@ import java.util.*;
  */
 public class Dice {
 
+    /**
+     * The number of faces on a single die.
+     */
+    public static final int FACES = 6;
+
+    /**
+     * The number of distinct {@link Throw}s of two dice.
+     */
+    public static final int THROW_COUNT = FACES * FACES;
+
     /**
      * Generates the next random number, used to select a {@link Throw} from the {@link Dice#THROWS} collection.
      */
-    protected final Random RNG;
+    protected final RandomSource RNG;
     /**
      * This is a {@link Map} that associates a {@link Pair} with a {@link Throw}.
      */
     protected final Map<Pair<Integer, Integer>, Throw> THROWS;
+    /**
+     * A dense table of the 36 possible {@link Throw}s, indexed by {@link Dice#index(int, int)}. Slots without a
+     * registered {@link Throw} are null. This is rebuilt by {@link Dice#addThrow(Throw)}.
+     */
+    protected final Throw[] TABLE;
+    /**
+     * The registered {@link Throw}s packed into a contiguous array, in the iteration order of {@link Dice#THROWS}.
+     * {@link Dice#next()} selects from this array so that rolling never allocates.
+     */
+    protected Throw[] throwList;
+    /**
+     * The index in {@link Dice#TABLE} of each {@link Throw} in {@link Dice#throwList}.
+     */
+    protected int[] tableIndexes;
 
     /**
      * Creates a new random number generator instance, and calls the other constructor.
      */
     public Dice() {
-        this(new Random());
+        this(new SplittableRandom());
     }
 
     /**
@@ -57,23 +81,98 @@ public class Dice {
      * @param rng the random number generator to use
      */
     public Dice(Random rng) {
+        this(RandomSource.of(rng));
+    }
+
+    /**
+     * Build the mapping of Throw instances.
+     *
+     * @param rng the random number generator to use
+     */
+    public Dice(SplittableRandom rng) {
+        this(RandomSource.of(rng));
+    }
+
+    /**
+     * Build the mapping of Throw instances.
+     *
+     * @param rng the source of random numbers to use
+     */
+    public Dice(RandomSource rng) {
         RNG = rng;
         THROWS = new HashMap<>();
+        TABLE = new Throw[THROW_COUNT];
+        throwList = new Throw[0];
+        tableIndexes = new int[0];
+    }
+
+    /**
+     * Creates a {@link Dice} holding the 36 standard {@link Throw}s, with a new random number generator.
+     *
+     * @return the {@link Dice}
+     * @see Dice#standard(RandomSource)
+     */
+    public static Dice standard() {
+        return standard(RandomSource.of(new SplittableRandom()));
+    }
+
+    /**
+     * Creates a {@link Dice} holding the 36 standard {@link Throw}s: a {@link NaturalThrow} for each 7, an
+     * {@link ElevenThrow} for each 11, a {@link CrapsThrow} for each 2, 3 and 12 and a {@link PointThrow} for every other
+     * sum, each with its winning {@link Propositions}.
+     * <p>
+     * The {@link Throw}s are built once and shared by every standard {@link Dice}, so this is cheap enough to call
+     * once per simulation worker.
+     *
+     * @param rng the source of random numbers to use
+     * @return the {@link Dice}
+     */
+    public static Dice standard(RandomSource rng) {
+        Dice dice = new Dice(rng);
+        dice.addThrows(StandardThrows.THROWS);
+        return dice;
+    }
+
+    /**
+     * Returns the index of the given combination of dice in a dense table of 36 throws.
+     *
+     * @param diceOne the value of one die
+     * @param diceTwo the value of the other die
+     * @return (diceOne - 1) * 6 + (diceTwo - 1), or -1 if either value is not a face of a die
+     */
+    public static int index(int diceOne, int diceTwo) {
+        if (diceOne < 1 || diceOne > FACES || diceTwo < 1 || diceTwo > FACES) {
+            return -1;
+        }
+        return (diceOne - 1) * FACES + (diceTwo - 1);
+    }
+
+    /**
+     * Returns the dense index of the mirror image of a throw: both dice turned upside down, so each face becomes
+     * 7 minus the face. The mirror image is equally likely, and its sum is 14 minus the sum, which makes it the
+     * antithetic counterpart of the throw.
+     *
+     * @param index the dense index of a throw
+     * @return the dense index of its mirror image
+     */
+    public static int mirror(int index) {
+        return THROW_COUNT - 1 - index;
     }
 
     /**
      * While not needed by the application, unit tests may need a method to return a specific {@link Throw}
      * rather than a randomly selected {@link Throw}.
      * <p>
-     * This method takes a particular combination of dice, locates (or creates) a {@link Pair}, and
-     * returns the appropriate {@link Throw}.
+     * This method takes a particular combination of dice and returns the appropriate {@link Throw} from the dense
+     * table, or null if no such {@link Throw} was added.
      *
      * @param diceOne the value of one die
      * @param diceTwo the value of the other die
      * @return the {@link Throw}
      */
     public Throw getThrow(int diceOne, int diceTwo) {
-        return THROWS.get(Pair.of(diceOne, diceTwo));
+        int index = index(diceOne, diceTwo);
+        return index < 0 ? null : TABLE[index];
     }
 
     /**
@@ -90,6 +189,16 @@ public class Dice {
         return THROWS.get(key);
     }
 
+    /**
+     * Returns the {@link Throw}s added to this {@link Dice}. Each is selected by {@link Dice#next()} with equal
+     * probability.
+     *
+     * @return an unmodifiable view of the {@link Throw}s
+     */
+    public Collection<Throw> getThrows() {
+        return Collections.unmodifiableCollection(THROWS.values());
+    }
+
     /**
      * Adds the given {@link Throw} to the mapping maintained by this instance of {@link Dice}. The key for this
      * {@link Throw} is available from the {@link Throw#getKey()} method.
@@ -97,17 +206,139 @@ public class Dice {
      * @param diceThrow the {@link Throw} to add
      */
     public void addThrow(Throw diceThrow) {
+        if (index(diceThrow.diceOne, diceThrow.diceTwo) < 0) {
+            throw new IllegalArgumentException("The dice of " + diceThrow + " must be between 1 and " + FACES);
+        }
         THROWS.put(diceThrow.getKey(), diceThrow);
+        rebuild();
     }
 
     /**
-     * Returns a randomly selected {@link Throw}.
+     * Adds all the given {@link Throw}s, as {@link Dice#addThrow(Throw)} does, rebuilding the tables only once.
+     *
+     * @param throwList the {@link Throw}s to add
+     */
+    public void addThrows(Collection<? extends Throw> throwList) {
+        for (Throw diceThrow : throwList) {
+            if (index(diceThrow.diceOne, diceThrow.diceTwo) < 0) {
+                throw new IllegalArgumentException("The dice of " + diceThrow + " must be between 1 and " + FACES);
+            }
+        }
+        for (Throw diceThrow : throwList) {
+            THROWS.put(diceThrow.getKey(), diceThrow);
+        }
+        rebuild();
+    }
+
+    /**
+     * Rebuilds {@link Dice#TABLE}, {@link Dice#throwList} and {@link Dice#tableIndexes} from {@link Dice#THROWS}.
+     */
+    protected void rebuild() {
+        Arrays.fill(TABLE, null);
+        Throw[] packed = new Throw[THROWS.size()];
+        int[] indexes = new int[packed.length];
+        int i = 0;
+        for (Throw diceThrow : THROWS.values()) {
+            int index = index(diceThrow.diceOne, diceThrow.diceTwo);
+            TABLE[index] = diceThrow;
+            packed[i] = diceThrow;
+            indexes[i++] = index;
+        }
+        throwList = packed;
+        tableIndexes = indexes;
+    }
+
+    /**
+     * Returns a randomly selected {@link Throw}. This is a single array read and does not allocate.
      *
      * @return the randomly selected {@link Throw}
      */
     public Throw next() {
-        List<Pair<Integer, Integer>> keys = new ArrayList<>(THROWS.keySet());
-        int index = RNG.nextInt(keys.size());
-        return THROWS.get(keys.get(index));
+        return throwList[RNG.nextInt(throwList.length)];
+    }
+
+    /**
+     * Draws and discards the given number of {@link Throw}s. Since {@link Dice#next()} and
+     * {@link Dice#nextBatch(int[], int)} draw the same stream, skipping to an offset on {@link Dice} with the same seed
+     * reproduces the draws from that offset on. The offset counts draws, not rolls played: a
+     * {@link io.github.softwarecat.simulation.Simulator} shard draws whole batches and drops the rest of a batch when a
+     * session ends, so to replay one of its sessions, log its rolls with a {@link io.github.softwarecat.log.RollLog}.
+     *
+     * @param count the number of {@link Throw}s to skip
+     */
+    public void skip(long count) {
+        int bound = throwList.length;
+        for (long i = 0; i < count; i++) {
+            RNG.nextInt(bound);
+        }
+    }
+
+    /**
+     * Selects the given number of random {@link Throw}s at once, and writes their indexes in the dense table (see
+     * {@link Dice#index(int, int)}) into the given buffer. The {@link Throw}s are then available from
+     * {@link Dice#throwAt(int)}. Filling a primitive buffer keeps the loop free of allocation and virtual calls.
+     *
+     * @param throwIndexes the buffer to fill
+     * @param count        the number of {@link Throw}s to select, at most the length of the buffer
+     */
+    public void nextBatch(int[] throwIndexes, int count) {
+        int[] indexes = tableIndexes;
+        RNG.nextInts(throwIndexes, count, indexes.length);
+        for (int i = 0; i < count; i++) {
+            throwIndexes[i] = indexes[throwIndexes[i]];
+        }
+    }
+
+    /**
+     * Returns the {@link Throw} at the given index of the dense table.
+     *
+     * @param index the index of the {@link Throw}, as returned by {@link Dice#index(int, int)}
+     * @return the {@link Throw}, or null if no such {@link Throw} was added
+     */
+    public Throw throwAt(int index) {
+        return TABLE[index];
+    }
+
+    /**
+     * Holds the shared {@link Throw}s of {@link Dice#standard(RandomSource)}, built the first time they are needed.
+     */
+    private static final class StandardThrows {
+
+        /**
+         * The 36 standard {@link Throw}s.
+         */
+        static final List<Throw> THROWS;
+
+        static {
+            List<Throw> throwList = new ArrayList<>(THROW_COUNT);
+            for (int diceOne = 1; diceOne <= FACES; diceOne++) {
+                for (int diceTwo = 1; diceTwo <= FACES; diceTwo++) {
+                    switch (diceOne + diceTwo) {
+                        case 2:
+                            throwList.add(new CrapsThrow(diceOne, diceTwo, Propositions.ANY_CRAPS, Propositions.ACES));
+                            break;
+                        case 3:
+                            throwList.add(new CrapsThrow(diceOne, diceTwo, Propositions.ANY_CRAPS, Propositions.ACE_DEUCE));
+                            break;
+                        case 12:
+                            throwList.add(new CrapsThrow(diceOne, diceTwo, Propositions.ANY_CRAPS, Propositions.BOXCARS));
+                            break;
+                        case 7:
+                            throwList.add(new NaturalThrow(diceOne, diceTwo, Propositions.ANY_SEVEN));
+                            break;
+                        case 11:
+                            throwList.add(new ElevenThrow(diceOne, diceTwo, Propositions.YO));
+                            break;
+                        default:
+                            throwList.add(new PointThrow(diceOne, diceTwo));
+                            break;
+                    }
+                }
+            }
+            THROWS = Collections.unmodifiableList(throwList);
+        }
+
+        private StandardThrows() {
+        }
     }
 }
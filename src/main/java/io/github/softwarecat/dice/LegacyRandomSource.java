@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.dice;
+
+import java.util.Random;
+
+/**
+ * {@link LegacyRandomSource} is a {@link RandomSource} backed by a {@link Random}.
+ */
+final class LegacyRandomSource implements RandomSource {
+
+    /**
+     * The random number generator.
+     */
+    private final Random rng;
+
+    /**
+     * Creates this {@link RandomSource}.
+     *
+     * @param rng the random number generator to use
+     */
+    LegacyRandomSource(Random rng) {
+        this.rng = rng;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return rng.nextInt(bound);
+    }
+
+    /**
+     * Seeds a new {@link Random} from this stream. The streams are not guaranteed to be independent.
+     *
+     * @return the new {@link RandomSource}
+     */
+    @Override
+    public RandomSource split() {
+        return new LegacyRandomSource(new Random(rng.nextLong()));
+    }
+}
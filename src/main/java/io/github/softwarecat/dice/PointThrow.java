@@ -24,7 +24,6 @@
 
 package io.github.softwarecat.dice;
 
-import io.github.softwarecat.Game;
 import io.github.softwarecat.Outcome;
 
 import java.util.Arrays;
@@ -80,14 +79,4 @@ public class PointThrow extends Throw {
             throw new IllegalArgumentException("In a point throw, dice one and two must sum to 4, 5, 6, 8, 9, or 10");
         }
     }
-
-    /**
-     * Calls the {@link Game#point(int)} method of a {@link Game}. This may change the game state and resolve bets.
-     *
-     * @param game the {@link Game} to be updated based on this throw
-     */
-    @Override
-    public void updateGame(Game game) {
-        game.point(diceOne + diceTwo);
-    }
 }
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.dice;
+
+import io.github.softwarecat.Outcome;
+
+/**
+ * {@link Propositions} holds the one-roll proposition {@link Outcome}s of a standard Craps layout. These are the winning
+ * {@link Outcome}s of the {@link Throw}s built by {@link Dice#standard()}.
+ */
+public final class Propositions {
+
+    /**
+     * Wins on any 7.
+     */
+    public static final Outcome ANY_SEVEN = Outcome.of("Any Seven", 4);
+
+    /**
+     * Wins on any 2, 3 or 12.
+     */
+    public static final Outcome ANY_CRAPS = Outcome.of("Any Craps", 7);
+
+    /**
+     * Wins on a 2.
+     */
+    public static final Outcome ACES = Outcome.of("Aces", 30);
+
+    /**
+     * Wins on a 3.
+     */
+    public static final Outcome ACE_DEUCE = Outcome.of("Ace-Deuce", 15);
+
+    /**
+     * Wins on an 11.
+     */
+    public static final Outcome YO = Outcome.of("Yo", 15);
+
+    /**
+     * Wins on a 12.
+     */
+    public static final Outcome BOXCARS = Outcome.of("Boxcars", 30);
+
+    private Propositions() {
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.dice;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * {@link RandomSource} is the source of random numbers used by {@link Dice} to select a {@link Throw}.
+ * <p>
+ * A {@link RandomSource} is not shared between threads. Instead, each worker of a simulation gets its own stream from
+ * {@link RandomSource#split()}, which does not contend with the others. Splitting a {@link SplittableRandom} gives
+ * independent streams that only depend on the seed and the order of the splits, so the simulation is reproducible.
+ */
+public interface RandomSource {
+
+    /**
+     * Creates a {@link RandomSource} backed by a {@link SplittableRandom} with the given seed.
+     *
+     * @param seed the seed
+     * @return the {@link RandomSource}
+     */
+    static RandomSource seeded(long seed) {
+        return of(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a {@link RandomSource} backed by the given {@link SplittableRandom}.
+     *
+     * @param rng the random number generator to use
+     * @return the {@link RandomSource}
+     */
+    static RandomSource of(SplittableRandom rng) {
+        return new SplittableRandomSource(rng);
+    }
+
+    /**
+     * Creates a {@link RandomSource} backed by the given {@link Random}. Split streams are seeded from this stream,
+     * so prefer {@link RandomSource#of(SplittableRandom)} for parallel simulations.
+     *
+     * @param rng the random number generator to use
+     * @return the {@link RandomSource}
+     */
+    static RandomSource of(Random rng) {
+        return new LegacyRandomSource(rng);
+    }
+
+    /**
+     * Returns a random int between zero (inclusive) and the given bound (exclusive).
+     *
+     * @param bound the upper bound, must be positive
+     * @return the random int
+     */
+    int nextInt(int bound);
+
+    /**
+     * Fills the given buffer with random ints between zero (inclusive) and the given bound (exclusive).
+     *
+     * @param values the buffer to fill
+     * @param count  the number of values to write, at most the length of the buffer
+     * @param bound  the upper bound, must be positive
+     */
+    default void nextInts(int[] values, int count, int bound) {
+        for (int i = 0; i < count; i++) {
+            values[i] = nextInt(bound);
+        }
+    }
+
+    /**
+     * Returns a new {@link RandomSource} whose stream is independent of this one. This advances the state of this
+     * {@link RandomSource}, so a sequence of splits is reproducible.
+     *
+     * @return the new {@link RandomSource}
+     */
+    RandomSource split();
+}
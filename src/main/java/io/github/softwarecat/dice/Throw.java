@@ -30,32 +30,57 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
  * {@link Throw} is the superclass for the various throws of the dice. Each subclass is a different grouping of the numbers, based
  * on the rules for Craps.
+ * <p>
+ * Throws are immutable, so one table of throws can be shared by any number of {@link Dice} and threads without
+ * locking.
  */
 public abstract class Throw {
 
     /**
-     * A {@link Set} of one-roll Outcomes that win with this throw.
+     * The number of {@link Outcome} ids held by one word of the winning mask. {@link Throw#winningMask()} holds the ids
+     * below this, which is where the {@link Outcome}s interned first, such as the {@link Propositions}, end up.
+     */
+    public static final int MASK_BITS = Long.SIZE;
+
+    /**
+     * An immutable {@link Set} of one-roll Outcomes that win with this throw.
      */
     public final Set<Outcome> outcomes;
 
+    /**
+     * The winning {@link Outcome}s as a bitmask over {@link Outcome} ids, {@link Throw#MASK_BITS} ids per word: bit
+     * {@code i % MASK_BITS} of word {@code i / MASK_BITS} is set when the {@link Outcome} with id {@code i} wins. Ids are
+     * global and never freed, so the mask grows with the highest winning id rather than limiting it.
+     */
+    protected final long[] winningMasks;
+
     /**
      * One of the two die values, from 1 to 6.
      */
-    public int diceOne;
+    public final int diceOne;
 
     /**
      * The other of the two die values, from 1 to 6.
      */
-    public int diceTwo;
+    public final int diceTwo;
+
+    /**
+     * The sum of the two die values.
+     */
+    protected final int sum;
 
     /**
-     * Creates this {@link Throw}, {@link Outcome}s can be added later.
+     * The key of this {@link Throw}, built once so {@link Throw#getKey()} does not allocate.
+     */
+    protected final Pair<Integer, Integer> key;
+
+    /**
+     * Creates this {@link Throw} with no winning {@link Outcome}s. The {@link Outcome}s are fixed once it is created.
      *
      * @param diceOne the value of one die
      * @param diceTwo the value of the other die
@@ -85,7 +110,51 @@ public abstract class Throw {
     public Throw(int diceOne, int diceTwo, Collection<Outcome> outcomes) {
         this.diceOne = diceOne;
         this.diceTwo = diceTwo;
-        this.outcomes = new HashSet<>(outcomes);
+        this.sum = diceOne + diceTwo;
+        this.key = Pair.of(diceOne, diceTwo);
+        this.outcomes = Set.copyOf(outcomes);
+
+        int highest = 0;
+        for (Outcome outcome : this.outcomes) {
+            highest = Math.max(highest, outcome.getId());
+        }
+        long[] masks = new long[highest / MASK_BITS + 1];
+        for (Outcome outcome : this.outcomes) {
+            masks[outcome.getId() / MASK_BITS] |= 1L << outcome.getId();
+        }
+        this.winningMasks = masks;
+    }
+
+    /**
+     * Returns true if the given {@link Outcome} wins with this throw. This is a single bit test, with no hashing.
+     *
+     * @param outcome the {@link Outcome} to test
+     * @return true if the {@link Outcome} is one of the winning {@link Outcome}s of this throw
+     */
+    public boolean wins(Outcome outcome) {
+        return wins(outcome.getId());
+    }
+
+    /**
+     * Returns true if the {@link Outcome} with the given id wins with this throw.
+     *
+     * @param id the id of the {@link Outcome} to test
+     * @return true if the {@link Outcome} is one of the winning {@link Outcome}s of this throw
+     */
+    public boolean wins(int id) {
+        int word = id / MASK_BITS;
+        return word < winningMasks.length && (winningMasks[word] >>> id & 1L) != 0;
+    }
+
+    /**
+     * Returns the winning {@link Outcome}s with ids below {@link Throw#MASK_BITS} as a bitmask: bit {@code i} is set
+     * when the {@link Outcome} with id {@code i} wins. Resolving many bets is then a matter of AND-ing this with a mask
+     * of the bets' {@link Outcome} ids. Higher ids are tested with {@link Throw#wins(int)}.
+     *
+     * @return the bitmask of winning {@link Outcome} ids below {@link Throw#MASK_BITS}
+     */
+    public long winningMask() {
+        return winningMasks[0];
     }
 
     /**
@@ -98,12 +167,14 @@ public abstract class Throw {
     }
 
     /**
-     * Calls one of the {@link Game} state change methods: {@link Game#craps()}, {@link Game#natural()}, {@link Game#eleven()}, {@link Game#point(int)}. This may
-     * change the game state and resolve bets.
+     * Advances the state of the given {@link Game} by this throw with {@link Game#roll(Throw)}. The {@link Game} looks up
+     * the transition from its current point and the sum of the dice, and resolves bets.
      *
      * @param game the {@link Game} to be updated based on this throw
      */
-    public abstract void updateGame(Game game);
+    public void updateGame(Game game) {
+        game.roll(this);
+    }
 
     /**
      * An easy-to-read {@link String} output method is also very handy. This should return a {@link String} representation of the
@@ -122,6 +193,15 @@ public abstract class Throw {
      * @return the {@link Pair} that is a key for this {@link Throw}
      */
     public Pair<Integer, Integer> getKey() {
-        return Pair.of(diceOne, diceTwo);
+        return key;
+    }
+
+    /**
+     * Gets the sum of the two die values.
+     *
+     * @return diceOne + diceTwo
+     */
+    public int getSum() {
+        return sum;
     }
 }
@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.table.Table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * {@link ReplayDice} are {@link Dice} that throw the rolls recorded in a {@link RollLog} instead of drawing them from
+ * a random number generator. The {@link Throw}s are the shared standard {@link Throw}s of {@link Dice#standard()}, so
+ * a replay feeds exactly the same {@link Throw#updateGame(Game)} path as the original run.
+ * <p>
+ * A replay can start from a checkpoint instead of from the first roll: {@link ReplayDice#seekCheckpoint(long)} moves
+ * to the last checkpoint at or before a roll, and {@link ReplayDice#restore(Game, Table, Player...)} then restores the point
+ * and the bankrolls recorded there. Checkpoints found along the way are indexed, so seeking back and forth only scans
+ * the part of the log not seen yet.
+ * <p>
+ * Dice that were drawn one roll at a time can also be replayed from their seed instead of from a log, with
+ * {@link Dice#standard(RandomSource)} and {@link Dice#skip(long)} to the number of draws; see {@link Dice#skip(long)}
+ * for why this does not hold for the shards of a simulation.
+ */
+public class ReplayDice extends Dice implements Closeable {
+
+    /**
+     * Stands in for the random number generator, which a replay never uses.
+     */
+    private static final RandomSource NO_RANDOM = new RandomSource() {
+        @Override
+        public int nextInt(int bound) {
+            throw new IllegalStateException("Replayed dice throw the rolls of their log");
+        }
+
+        @Override
+        public RandomSource split() {
+            throw new IllegalStateException("Replayed dice throw the rolls of their log");
+        }
+    };
+
+    /**
+     * The log being replayed.
+     */
+    protected final RollLogReader reader;
+
+    /**
+     * The positions of the checkpoints found so far, in log order.
+     */
+    private long[] checkpointPositions = new long[16];
+
+    /**
+     * The number of rolls before each checkpoint found so far.
+     */
+    private long[] checkpointRolls = new long[16];
+
+    /**
+     * The number of checkpoints found so far.
+     */
+    private int checkpointCount;
+
+    /**
+     * The dense index of the next roll, or -1 at the end of the log.
+     */
+    private int nextIndex;
+
+    /**
+     * The number of rolls thrown, or restored from a checkpoint.
+     */
+    private long rolls;
+
+    /**
+     * True if a checkpoint was passed after the last roll.
+     */
+    private boolean atCheckpoint;
+
+    /**
+     * Opens a roll log for replay.
+     *
+     * @param path the roll log
+     * @throws IOException if the file cannot be opened or is not a roll log
+     */
+    public ReplayDice(Path path) throws IOException {
+        this(new RollLogReader(path));
+    }
+
+    /**
+     * Replays the given roll log from its current position.
+     *
+     * @param reader the roll log
+     */
+    public ReplayDice(RollLogReader reader) {
+        super(NO_RANDOM);
+        addThrows(Dice.standard().getThrows());
+        this.reader = reader;
+        rolls = reader.getRolls();
+        advance();
+    }
+
+    /**
+     * Returns true if the log has more rolls.
+     *
+     * @return true if there is a next roll
+     */
+    public boolean hasNext() {
+        return nextIndex >= 0;
+    }
+
+    /**
+     * Returns the next recorded {@link Throw}.
+     *
+     * @return the next {@link Throw}
+     * @throws IllegalStateException at the end of the log
+     */
+    @Override
+    public Throw next() {
+        return throwAt(take());
+    }
+
+    /**
+     * Writes the dense indexes of the next recorded {@link Throw}s into the given buffer.
+     *
+     * @param throwIndexes the buffer to fill
+     * @param count        the number of {@link Throw}s to replay, at most the length of the buffer
+     * @throws IllegalStateException if the log ends before the given number of {@link Throw}s
+     */
+    @Override
+    public void nextBatch(int[] throwIndexes, int count) {
+        for (int i = 0; i < count; i++) {
+            throwIndexes[i] = take();
+        }
+    }
+
+    /**
+     * Skips the given number of recorded {@link Throw}s.
+     *
+     * @param count the number of {@link Throw}s to skip
+     * @throws IllegalStateException if the log ends first
+     */
+    @Override
+    public void skip(long count) {
+        for (long i = 0; i < count; i++) {
+            take();
+        }
+    }
+
+    /**
+     * Moves to the last checkpoint at or before the given roll, so that the next {@link Throw} is the first one after
+     * the checkpoint. Without such a checkpoint the replay starts over from the first roll.
+     *
+     * @param roll the number of rolls to replay up to
+     * @return the number of rolls before the checkpoint, or zero when starting over
+     */
+    public long seekCheckpoint(long roll) {
+        try {
+            if (checkpointCount == 0 || checkpointRolls[checkpointCount - 1] < roll) {
+                scan(roll);
+            }
+            int found = -1;
+            for (int i = checkpointCount - 1; i >= 0; i--) {
+                if (checkpointRolls[i] <= roll) {
+                    found = i;
+                    break;
+                }
+            }
+            if (found < 0) {
+                reader.seek(RollLog.HEADER_SIZE, 0);
+                rolls = 0;
+            } else {
+                reader.seek(checkpointPositions[found], checkpointRolls[found]);
+                rolls = checkpointRolls[found];
+            }
+            advance();
+            return rolls;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restores the point and bankrolls recorded by the checkpoint just passed. Checkpoints are taken while the point is
+     * off, so the {@link Game} is set to a come out roll, the {@link Table} is cleared of the bets left from before the
+     * seek and the {@link Player}s are seated again, and every bankroll goes back to the stake of its {@link Player}.
+     *
+     * @param game    the {@link Game} to restore the point of
+     * @param table   the {@link Table} of the {@link Game}, which is reset
+     * @param players the {@link Player}s to seat and restore the bankrolls of, in the order they were recorded
+     * @throws IllegalStateException if the replay is not right after a checkpoint
+     */
+    public void restore(Game game, Table table, Player... players) {
+        if (!atCheckpoint()) {
+            throw new IllegalStateException("There is no checkpoint after roll " + rolls);
+        }
+        if (players.length > reader.getBankrollCount()) {
+            throw new IllegalArgumentException("The checkpoint only has " + reader.getBankrollCount() + " bankrolls");
+        }
+        game.restore(reader.getPoint());
+        table.reset();
+        for (int seat = 0; seat < players.length; seat++) {
+            table.join(players[seat]);
+            players[seat].restoreBankroll(reader.getBankroll(seat));
+        }
+    }
+
+    /**
+     * Returns true if the replay is right after a checkpoint, so that {@link ReplayDice#restore(Game, Table, Player...)} can
+     * be called.
+     *
+     * @return true right after a checkpoint
+     */
+    public boolean atCheckpoint() {
+        return atCheckpoint;
+    }
+
+    /**
+     * Gets the number of {@link Throw}s replayed, counting the rolls before a checkpoint sought to.
+     *
+     * @return the number of rolls
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Returns the next roll and reads ahead to the one after.
+     *
+     * @return the dense index of the roll
+     */
+    private int take() {
+        int index = nextIndex;
+        if (index < 0) {
+            throw new IllegalStateException("The roll log ends after " + rolls + " rolls");
+        }
+        rolls++;
+        advance();
+        return index;
+    }
+
+    /**
+     * Reads ahead to the next roll, passing any checkpoints before it.
+     */
+    private void advance() {
+        try {
+            atCheckpoint = false;
+            int record;
+            while ((record = read()) == RollLogReader.CHECKPOINT) {
+                atCheckpoint = true;
+            }
+            nextIndex = record == RollLogReader.ROLL ? reader.getIndex() : -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads ahead to the first checkpoint after the given roll, or the end of the log, indexing the checkpoints on
+     * the way.
+     *
+     * @param roll the number of rolls to scan past
+     * @throws IOException if the log cannot be read
+     */
+    private void scan(long roll) throws IOException {
+        if (checkpointCount > 0 && checkpointPositions[checkpointCount - 1] > reader.position()) {
+            reader.seek(checkpointPositions[checkpointCount - 1], checkpointRolls[checkpointCount - 1]);
+        }
+        int record;
+        while ((record = read()) != RollLogReader.END) {
+            if (record == RollLogReader.CHECKPOINT && reader.getCheckpointRolls() > roll) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the next record, adding a checkpoint to the index the first time it is read.
+     *
+     * @return the type of the record
+     * @throws IOException if the log cannot be read
+     */
+    private int read() throws IOException {
+        long position = reader.position();
+        int record = reader.next();
+        if (record == RollLogReader.CHECKPOINT
+                && (checkpointCount == 0 || position > checkpointPositions[checkpointCount - 1])) {
+            if (checkpointCount == checkpointPositions.length) {
+                checkpointPositions = Arrays.copyOf(checkpointPositions, checkpointCount * 2);
+                checkpointRolls = Arrays.copyOf(checkpointRolls, checkpointCount * 2);
+            }
+            checkpointPositions[checkpointCount] = position;
+            checkpointRolls[checkpointCount++] = reader.getCheckpointRolls();
+        }
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
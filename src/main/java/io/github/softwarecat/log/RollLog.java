@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+/**
+ * {@link RollLog} describes the binary roll log written by {@link RollLogWriter} and read by {@link RollLogReader}.
+ * <p>
+ * A roll log starts with an eight byte header: the {@link RollLog#MAGIC} number and the {@link RollLog#VERSION}, as
+ * big-endian ints. Then follow the records:
+ * <ul>
+ *     <li>a roll is one byte, one more than the dense index of the dice from
+ *     {@link io.github.softwarecat.dice.Dice#index(int, int)}, 1 to 36;</li>
+ *     <li>a checkpoint is the {@link RollLog#CHECKPOINT} byte, the number of rolls before it as a long, the point as a
+ *     byte, the number of bankrolls as an unsigned short, and the bankrolls as longs.</li>
+ * </ul>
+ * The {@link RollLog#END} byte, zero, ends the log. The writer extends the file a whole mapped window at a time and the
+ * new pages read as zeros, so a log whose writer crashed before truncating the file still ends after its last record
+ * instead of replaying the padding as rolls.
+ * A checkpoint records the state of the {@link io.github.softwarecat.Game} and the players after the rolls before it,
+ * so a replay can start from any checkpoint instead of from the first roll. Checkpoints are only taken while the point
+ * is off, so no line bet is on the table to be restored; the point byte is always zero.
+ */
+public final class RollLog {
+
+    /**
+     * The first four bytes of a roll log, "CRPL".
+     */
+    public static final int MAGIC = 0x4352504C;
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The size of the header in bytes.
+     */
+    public static final int HEADER_SIZE = 8;
+
+    /**
+     * The byte that ends the log, which is also what the unwritten rest of a mapped window holds.
+     */
+    public static final byte END = 0;
+
+    /**
+     * The first byte of a checkpoint record.
+     */
+    public static final byte CHECKPOINT = (byte) 0xFF;
+
+    /**
+     * The size of a checkpoint record without its bankrolls.
+     */
+    static final int CHECKPOINT_SIZE = 1 + Long.BYTES + 1 + Short.BYTES;
+
+    /**
+     * The largest number of bankrolls in one checkpoint.
+     */
+    public static final int MAX_BANKROLLS = 0xFFFF;
+
+    /**
+     * The default size of the memory-mapped windows of the file, 64 MiB.
+     */
+    public static final int DEFAULT_WINDOW = 64 << 20;
+
+    private RollLog() {
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+import io.github.softwarecat.dice.Dice;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * {@link RollLogReader} iterates over a {@link RollLog} in place. The file is mapped read-only one window at a time and
+ * records are decoded straight from the mapped buffer, so reading allocates nothing per roll.
+ * <p>
+ * {@link RollLogReader#next()} advances to the next record and says what it is; the accessors then describe that
+ * record:
+ * <pre>{@code
+ * try (RollLogReader reader = new RollLogReader(path)) {
+ *     int record;
+ *     while ((record = reader.next()) != RollLogReader.END) {
+ *         if (record == RollLogReader.ROLL) {
+ *             Throw diceThrow = dice.throwAt(reader.getIndex());
+ *         }
+ *     }
+ * }
+ * }</pre>
+ */
+public class RollLogReader implements Closeable {
+
+    /**
+     * Returned by {@link RollLogReader#next()} at the end of the log.
+     */
+    public static final int END = 0;
+
+    /**
+     * Returned by {@link RollLogReader#next()} for a roll.
+     */
+    public static final int ROLL = 1;
+
+    /**
+     * Returned by {@link RollLogReader#next()} for a checkpoint.
+     */
+    public static final int CHECKPOINT = 2;
+
+    /**
+     * The file being read.
+     */
+    protected final FileChannel channel;
+
+    /**
+     * The length of the file.
+     */
+    protected final long length;
+
+    /**
+     * The size of each mapped window.
+     */
+    protected final int windowSize;
+
+    /**
+     * The mapped window being read.
+     */
+    protected MappedByteBuffer buffer;
+
+    /**
+     * The offset of the mapped window in the file.
+     */
+    protected long windowStart;
+
+    /**
+     * The number of rolls read so far.
+     */
+    protected long rolls;
+
+    private int index = -1;
+
+    private long checkpointRolls;
+
+    private int checkpointPoint;
+
+    private long[] bankrolls = new long[0];
+
+    private int bankrollCount;
+
+    /**
+     * Opens a roll log with the default window size.
+     *
+     * @param path the file to read
+     * @throws IOException if the file cannot be opened or is not a roll log
+     */
+    public RollLogReader(Path path) throws IOException {
+        this(path, RollLog.DEFAULT_WINDOW);
+    }
+
+    /**
+     * Opens a roll log.
+     *
+     * @param path       the file to read
+     * @param windowSize the size of each mapped window; at least large enough for the header
+     * @throws IOException if the file cannot be opened or is not a roll log
+     */
+    public RollLogReader(Path path, int windowSize) throws IOException {
+        if (windowSize < RollLog.HEADER_SIZE) {
+            throw new IllegalArgumentException("The window must hold at least the header");
+        }
+        this.windowSize = windowSize;
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            length = channel.size();
+            if (length < RollLog.HEADER_SIZE) {
+                throw new IOException(path + " is too short to be a roll log");
+            }
+            map(0, RollLog.HEADER_SIZE);
+            if (buffer.getInt() != RollLog.MAGIC) {
+                throw new IOException(path + " is not a roll log");
+            }
+            int version = buffer.getInt();
+            if (version != RollLog.VERSION) {
+                throw new IOException("Unsupported roll log version " + version);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@link RollLogReader#ROLL}, {@link RollLogReader#CHECKPOINT}, or {@link RollLogReader#END} at the end of
+     * the file or at an {@link RollLog#END} byte
+     * @throws IOException if the next window cannot be mapped, or the log is corrupt
+     */
+    public int next() throws IOException {
+        if (!buffer.hasRemaining()) {
+            if (position() >= length) {
+                return END;
+            }
+            map(position(), 1);
+        }
+        byte record = buffer.get();
+        if (record == RollLog.END) {
+            buffer.position(buffer.position() - 1);
+            index = -1;
+            return END;
+        }
+        if (record != RollLog.CHECKPOINT) {
+            if (record < 1 || record > Dice.THROW_COUNT) {
+                throw new IOException("Corrupt roll log: invalid roll " + record + " at " + (position() - 1));
+            }
+            index = record - 1;
+            rolls++;
+            return ROLL;
+        }
+
+        long start = position() - 1;
+        if (buffer.remaining() < RollLog.CHECKPOINT_SIZE - 1) {
+            map(start, RollLog.CHECKPOINT_SIZE);
+            buffer.get();
+        }
+        checkpointRolls = buffer.getLong();
+        checkpointPoint = buffer.get();
+        bankrollCount = Short.toUnsignedInt(buffer.getShort());
+        int size = bankrollCount * Long.BYTES;
+        if (buffer.remaining() < size) {
+            map(start, RollLog.CHECKPOINT_SIZE + size);
+            buffer.position(RollLog.CHECKPOINT_SIZE);
+        }
+        if (bankrolls.length < bankrollCount) {
+            bankrolls = new long[bankrollCount];
+        }
+        for (int i = 0; i < bankrollCount; i++) {
+            bankrolls[i] = buffer.getLong();
+        }
+        if (checkpointRolls != rolls) {
+            throw new IOException("Corrupt roll log: checkpoint after " + checkpointRolls + " rolls found after "
+                    + rolls + " rolls");
+        }
+        index = -1;
+        return CHECKPOINT;
+    }
+
+    /**
+     * Moves to a position in the log, such as one returned by {@link RollLogReader#position()} just before a
+     * checkpoint, setting the number of rolls read so far.
+     *
+     * @param position the position of a record
+     * @param rolls    the number of rolls before that record
+     * @throws IOException if the window cannot be mapped
+     */
+    public void seek(long position, long rolls) throws IOException {
+        if (position < RollLog.HEADER_SIZE || position > length) {
+            throw new IllegalArgumentException("Position " + position + " is outside the log");
+        }
+        map(position, 0);
+        this.rolls = rolls;
+        index = -1;
+    }
+
+    /**
+     * Maps a window starting at the given position, of at least the given size if the file is long enough.
+     *
+     * @param position the offset of the window in the file
+     * @param size     the smallest size of the window
+     * @throws IOException if the window cannot be mapped or the log ends within the given size
+     */
+    private void map(long position, int size) throws IOException {
+        if (length - position < size) {
+            throw new IOException("Corrupt roll log: truncated record at " + position);
+        }
+        windowStart = position;
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(length - position, Math.max(windowSize, size)));
+    }
+
+    /**
+     * Gets the position of the next record in the file.
+     *
+     * @return the position
+     */
+    public long position() {
+        return windowStart + buffer.position();
+    }
+
+    /**
+     * Gets the number of rolls read so far.
+     *
+     * @return the number of rolls
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the dense index of the current roll, as used by {@link Dice#throwAt(int)}.
+     *
+     * @return the index, 0 to 35, or -1 if the current record is not a roll
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the value of the first die of the current roll.
+     *
+     * @return the value of the die
+     */
+    public int getDiceOne() {
+        return index / Dice.FACES + 1;
+    }
+
+    /**
+     * Gets the value of the second die of the current roll.
+     *
+     * @return the value of the die
+     */
+    public int getDiceTwo() {
+        return index % Dice.FACES + 1;
+    }
+
+    /**
+     * Gets the number of rolls before the current checkpoint.
+     *
+     * @return the number of rolls
+     */
+    public long getCheckpointRolls() {
+        return checkpointRolls;
+    }
+
+    /**
+     * Gets the point recorded by the current checkpoint.
+     *
+     * @return the point, or zero while the point was off
+     */
+    public int getPoint() {
+        return checkpointPoint;
+    }
+
+    /**
+     * Gets the number of bankrolls recorded by the current checkpoint.
+     *
+     * @return the number of bankrolls
+     */
+    public int getBankrollCount() {
+        return bankrollCount;
+    }
+
+    /**
+     * Gets one bankroll recorded by the current checkpoint.
+     *
+     * @param seat the seat of the player
+     * @return the bankroll
+     */
+    public long getBankroll(int seat) {
+        if (seat < 0 || seat >= bankrollCount) {
+            throw new IndexOutOfBoundsException("No bankroll for seat " + seat);
+        }
+        return bankrolls[seat];
+    }
+
+    /**
+     * Returns the bankrolls recorded by the current checkpoint.
+     *
+     * @return a copy of the bankrolls
+     */
+    public long[] getBankrolls() {
+        return Arrays.copyOf(bankrolls, bankrollCount);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
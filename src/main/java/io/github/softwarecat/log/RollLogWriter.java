@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.Throw;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link RollLogWriter} writes a {@link RollLog} through a memory-mapped {@link FileChannel}. The file is mapped one
+ * window at a time, and a roll is a single byte put into the mapped buffer, so logging costs about as much as the
+ * store itself and the operating system writes the pages back at disk speed.
+ * <p>
+ * On {@link RollLogWriter#close()} the file is truncated to the bytes actually written. If the writer is never closed,
+ * the rest of the last window is zeros, which read as {@link RollLog#END}. A {@link RollLogWriter} is not thread-safe;
+ * every table or shard writes its own log.
+ */
+public class RollLogWriter implements Closeable {
+
+    /**
+     * The file being written.
+     */
+    protected final FileChannel channel;
+
+    /**
+     * The size of each mapped window.
+     */
+    protected final int windowSize;
+
+    /**
+     * The mapped window being written.
+     */
+    protected MappedByteBuffer buffer;
+
+    /**
+     * The offset of the mapped window in the file.
+     */
+    protected long windowStart;
+
+    /**
+     * The number of rolls written.
+     */
+    protected long rolls;
+
+    /**
+     * Creates a new roll log, replacing any existing file, with the default window size.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public RollLogWriter(Path path) throws IOException {
+        this(path, RollLog.DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a new roll log, replacing any existing file.
+     *
+     * @param path       the file to write
+     * @param windowSize the size of each mapped window; at least large enough for the header
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public RollLogWriter(Path path, int windowSize) throws IOException {
+        if (windowSize < RollLog.HEADER_SIZE) {
+            throw new IllegalArgumentException("The window must hold at least the header");
+        }
+        this.windowSize = windowSize;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, windowSize);
+        buffer.putInt(RollLog.MAGIC);
+        buffer.putInt(RollLog.VERSION);
+    }
+
+    /**
+     * Writes a roll.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @throws IOException if the next window cannot be mapped
+     */
+    public void write(Throw diceThrow) throws IOException {
+        writeIndex(Dice.index(diceThrow.diceOne, diceThrow.diceTwo));
+    }
+
+    /**
+     * Writes a roll.
+     *
+     * @param diceOne the value of one die
+     * @param diceTwo the value of the other die
+     * @throws IOException if the next window cannot be mapped
+     */
+    public void write(int diceOne, int diceTwo) throws IOException {
+        int index = Dice.index(diceOne, diceTwo);
+        if (index < 0) {
+            throw new IllegalArgumentException("Dice values must be between 1 and " + Dice.FACES);
+        }
+        writeIndex(index);
+    }
+
+    /**
+     * Writes a roll given as the dense index of the dice, as selected by {@link Dice#nextBatch(int[], int)}.
+     *
+     * @param index the dense index of the dice, 0 to 35
+     * @throws IOException if the next window cannot be mapped
+     */
+    public void writeIndex(int index) throws IOException {
+        if (index < 0 || index >= Dice.THROW_COUNT) {
+            throw new IllegalArgumentException("A dice index must be between 0 and " + (Dice.THROW_COUNT - 1));
+        }
+        if (!buffer.hasRemaining()) {
+            remap(1);
+        }
+        buffer.put((byte) (index + 1));
+        rolls++;
+    }
+
+    /**
+     * Writes a batch of rolls given as dense indexes.
+     *
+     * @param indexes the dense indexes of the dice
+     * @param count   the number of rolls to write from the start of the array
+     * @throws IOException if the next window cannot be mapped
+     */
+    public void writeIndexes(int[] indexes, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            writeIndex(indexes[i]);
+        }
+    }
+
+    /**
+     * Writes a checkpoint of the state after the rolls written so far. A checkpoint records bankrolls but not the bets
+     * on the table, so it can only be written between decisions, while the point is off and no line bet is working.
+     *
+     * @param point     the point of the {@link io.github.softwarecat.Game}, which must be zero
+     * @param bankrolls the bankrolls of the players
+     * @throws IOException if the next window cannot be mapped
+     * @throws IllegalArgumentException if the point is on
+     */
+    public void writeCheckpoint(int point, long... bankrolls) throws IOException {
+        if (point != 0) {
+            throw new IllegalArgumentException("A checkpoint cannot be written while the point " + point
+                    + " is on, as the line bets on the table would be lost on restore");
+        }
+        if (bankrolls.length > RollLog.MAX_BANKROLLS) {
+            throw new IllegalArgumentException("A checkpoint holds at most " + RollLog.MAX_BANKROLLS + " bankrolls");
+        }
+        int size = RollLog.CHECKPOINT_SIZE + bankrolls.length * Long.BYTES;
+        if (buffer.remaining() < size) {
+            remap(size);
+        }
+        buffer.put(RollLog.CHECKPOINT);
+        buffer.putLong(rolls);
+        buffer.put((byte) point);
+        buffer.putShort((short) bankrolls.length);
+        for (long bankroll : bankrolls) {
+            buffer.putLong(bankroll);
+        }
+    }
+
+    /**
+     * Maps the next window at the current position, large enough for a record of the given size.
+     *
+     * @param size the size of the record to write
+     * @throws IOException if the window cannot be mapped
+     */
+    private void remap(int size) throws IOException {
+        windowStart += buffer.position();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.max(windowSize, size));
+    }
+
+    /**
+     * Forces the written rolls to the storage device.
+     */
+    public void flush() {
+        buffer.force();
+    }
+
+    /**
+     * Gets the number of rolls written.
+     *
+     * @return the number of rolls
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the number of bytes written, including the header.
+     *
+     * @return the length of the log
+     */
+    public long length() {
+        return windowStart + buffer.position();
+    }
+
+    /**
+     * Forces the log to the storage device and truncates the file to its length.
+     *
+     * @throws IOException if the file cannot be truncated or closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        long length = length();
+        buffer.force();
+        try {
+            channel.truncate(length);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.metrics;
+
+import io.github.softwarecat.simulation.Histogram;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LatencyRecorder} records latencies in nanoseconds from many threads into {@link Histogram}s. Each thread
+ * records into a {@link Histogram} of its own, so the threads of a parallel run do not contend, and the
+ * {@link Histogram}s are merged when a quantile is read. A reading taken during a run may miss the latencies recorded
+ * while it was taken.
+ */
+class LatencyRecorder {
+
+    /**
+     * The {@link Histogram} of every thread that has recorded a latency.
+     */
+    private final Queue<Histogram> histograms = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The {@link Histogram} of the current thread.
+     */
+    private final ThreadLocal<Histogram> local = ThreadLocal.withInitial(() -> {
+        Histogram histogram = new Histogram();
+        histograms.add(histogram);
+        return histogram;
+    });
+
+    /**
+     * The sum of the recorded latencies.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The largest recorded latency.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency. Negative values, from a clock that stepped back, are recorded as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        Histogram histogram = local.get();
+        synchronized (histogram) {
+            histogram.add(value);
+        }
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Merges the {@link Histogram}s of all threads.
+     *
+     * @return the merged {@link Histogram}
+     */
+    private Histogram snapshot() {
+        Histogram merged = new Histogram();
+        for (Histogram histogram : histograms) {
+            synchronized (histogram) {
+                merged.merge(histogram);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count
+     */
+    long getCount() {
+        return snapshot().getCount();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return the mean in nanoseconds, or zero if none were recorded
+     */
+    double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return the maximum in nanoseconds, or zero if none were recorded
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Estimates the latency at the given quantile, see {@link Histogram#getQuantile(double)}.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the latency in nanoseconds, at most the maximum, or zero if none were recorded
+     */
+    long getQuantile(double quantile) {
+        return Math.min(snapshot().getQuantile(quantile), getMax());
+    }
+
+    /**
+     * Clears every recorded latency.
+     */
+    void reset() {
+        for (Histogram histogram : histograms) {
+            synchronized (histogram) {
+                histogram.reset();
+            }
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count %d, mean %.1f ns, p50 %d ns, p99 %d ns, p99.9 %d ns, max %d ns", getCount(),
+                getMean(), getQuantile(0.5), getQuantile(0.99), getQuantile(0.999), getMax());
+    }
+}
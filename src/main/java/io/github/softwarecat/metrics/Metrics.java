@@ -0,0 +1,350 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.metrics;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.dice.Throw;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Metrics} counts what the simulation does on its hot path: throws by {@link Throw} subclass, transitions of the
+ * {@link Game}, bets placed and settled by {@link Outcome}, and the time the {@link io.github.softwarecat.table.Table}
+ * takes to settle each throw. Counters are {@link LongAdder}s, so the threads of a parallel run do not contend on
+ * them, and the latencies go into a {@link LatencyRecorder}. The counts can be read over JMX through
+ * {@link MetricsMXBean} or dumped as text at a fixed period.
+ * <p>
+ * Metrics are off unless the JVM is started with {@code -Dcraps.metrics=true}. Every hook is guarded by
+ * {@link Metrics#ENABLED}, a static final constant, so when it is false the JIT compiler removes the guarded code and
+ * a maximum-throughput run pays nothing for it.
+ */
+public final class Metrics {
+
+    /**
+     * True if the hooks record anything. Read once from the {@code craps.metrics} system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("craps.metrics");
+
+    /**
+     * The name {@link Metrics#register()} registers the {@link MetricsMXBean} under.
+     */
+    public static final String OBJECT_NAME = "io.github.softwarecat:type=Metrics";
+
+    /**
+     * The number of {@link Outcome} ids counted separately. Higher ids share the last counter.
+     */
+    private static final int OUTCOME_SLOTS = 256;
+
+    /**
+     * The names of the events of a {@link Game}, indexed by event.
+     */
+    private static final String[] EVENTS = {"NO_DECISION", "COME_OUT_WIN", "COME_OUT_CRAPS", "POINT_ESTABLISHED",
+            "POINT_MADE", "SEVEN_OUT"};
+
+    /**
+     * The throws rolled, by simple name of the {@link Throw} subclass.
+     */
+    private static final Map<String, LongAdder> THROWS = new ConcurrentHashMap<>();
+
+    /**
+     * The counter of each {@link Throw} subclass, looked up without hashing on the hot path.
+     */
+    private static final ClassValue<LongAdder> THROW_COUNTERS = new ClassValue<LongAdder>() {
+        @Override
+        protected LongAdder computeValue(Class<?> type) {
+            return THROWS.computeIfAbsent(type.getSimpleName(), name -> new LongAdder());
+        }
+    };
+
+    /**
+     * The throws of each transition, indexed by {@code point * EVENTS.length + event}.
+     */
+    private static final LongAdder[] TRANSITIONS = adders(11 * EVENTS.length);
+
+    /**
+     * The bets placed, indexed by {@link Outcome} id.
+     */
+    private static final LongAdder[] PLACED = adders(OUTCOME_SLOTS);
+
+    /**
+     * The bets settled, indexed by {@link Outcome} id.
+     */
+    private static final LongAdder[] SETTLED = adders(OUTCOME_SLOTS);
+
+    /**
+     * The time to settle the bets of each throw.
+     */
+    private static final LatencyRecorder SETTLEMENT = new LatencyRecorder();
+
+    /**
+     * The view of the counters exposed over JMX.
+     */
+    private static final MetricsMXBean BEAN = new Bean();
+
+    /**
+     * Runs the periodic dumps.
+     */
+    private static final ScheduledExecutorService DUMPER = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "craps-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Metrics() {
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Counts a throw of the {@link Game}.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @param point     the point when the dice were thrown, or zero for a come out roll
+     * @param event     the event of the throw, one of the event constants of {@link Game}
+     */
+    public static void rolled(Throw diceThrow, int point, int event) {
+        THROW_COUNTERS.get(diceThrow.getClass()).increment();
+        TRANSITIONS[point * EVENTS.length + event].increment();
+    }
+
+    /**
+     * Counts a bet placed on a {@link io.github.softwarecat.table.Table}.
+     *
+     * @param outcomeId the id of the {@link Outcome} of the bet
+     */
+    public static void betPlaced(int outcomeId) {
+        PLACED[Math.min(outcomeId, OUTCOME_SLOTS - 1)].increment();
+    }
+
+    /**
+     * Counts a bet that was won, lost or pushed.
+     *
+     * @param outcomeId the id of the {@link Outcome} of the bet
+     */
+    public static void betSettled(int outcomeId) {
+        SETTLED[Math.min(outcomeId, OUTCOME_SLOTS - 1)].increment();
+    }
+
+    /**
+     * Records the time taken to settle the bets of one throw.
+     *
+     * @param nanos the time in nanoseconds
+     */
+    public static void settled(long nanos) {
+        SETTLEMENT.record(nanos);
+    }
+
+    /**
+     * Returns a live view of the counters, the same one that is exposed over JMX.
+     *
+     * @return the {@link MetricsMXBean}
+     */
+    public static MetricsMXBean bean() {
+        return BEAN;
+    }
+
+    /**
+     * Registers the {@link MetricsMXBean} with the platform MBean server under {@link Metrics#OBJECT_NAME}. Registering
+     * again does nothing.
+     */
+    public static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(BEAN, objectName());
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Returns the {@link ObjectName} of the {@link MetricsMXBean}.
+     *
+     * @return {@link Metrics#OBJECT_NAME} as an {@link ObjectName}
+     */
+    public static ObjectName objectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Prints {@link Metrics#report()} to the given stream at a fixed period, on a daemon thread.
+     *
+     * @param out    where the reports go
+     * @param period the time between reports
+     * @param unit   the unit of the period
+     * @return the scheduled dump, which stops when cancelled
+     */
+    public static ScheduledFuture<?> startDump(PrintStream out, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive");
+        }
+        return DUMPER.scheduleAtFixedRate(() -> out.print(report()), period, period, unit);
+    }
+
+    /**
+     * Returns every non-zero count as text, one per line.
+     *
+     * @return the report
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        String newline = System.lineSeparator();
+        report.append("rolls ").append(BEAN.getRolls()).append(newline);
+        append(report, "rolls ", BEAN.getRollsByThrow());
+        append(report, "transition ", BEAN.getTransitions());
+        append(report, "placed ", BEAN.getBetsPlaced());
+        append(report, "settled ", BEAN.getBetsSettled());
+        report.append("settlement ").append(SETTLEMENT).append(newline);
+        return report.toString();
+    }
+
+    private static void append(StringBuilder report, String prefix, Map<String, Long> counts) {
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            report.append(prefix).append(count.getKey()).append(' ').append(count.getValue())
+                    .append(System.lineSeparator());
+        }
+    }
+
+    private static Map<String, Long> byOutcome(LongAdder[] adders) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int id = 0; id < adders.length; id++) {
+            long count = adders[id].sum();
+            if (count > 0) {
+                String name = id == OUTCOME_SLOTS - 1 ? "other" : Outcome.forId(id).getName();
+                counts.merge(name, count, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * The {@link MetricsMXBean} reading the static counters.
+     */
+    private static final class Bean implements MetricsMXBean {
+
+        @Override
+        public long getRolls() {
+            long rolls = 0;
+            for (LongAdder transition : TRANSITIONS) {
+                rolls += transition.sum();
+            }
+            return rolls;
+        }
+
+        @Override
+        public Map<String, Long> getRollsByThrow() {
+            Map<String, Long> counts = new TreeMap<>();
+            THROWS.forEach((name, count) -> counts.put(name, count.sum()));
+            return counts;
+        }
+
+        @Override
+        public Map<String, Long> getTransitions() {
+            Map<String, Long> counts = new TreeMap<>();
+            for (int cell = 0; cell < TRANSITIONS.length; cell++) {
+                long count = TRANSITIONS[cell].sum();
+                if (count > 0) {
+                    int point = cell / EVENTS.length;
+                    String state = point == 0 ? "come out" : String.format(Locale.ROOT, "point %2d", point);
+                    counts.put(state + " " + EVENTS[cell % EVENTS.length], count);
+                }
+            }
+            return counts;
+        }
+
+        @Override
+        public Map<String, Long> getBetsPlaced() {
+            return byOutcome(PLACED);
+        }
+
+        @Override
+        public Map<String, Long> getBetsSettled() {
+            return byOutcome(SETTLED);
+        }
+
+        @Override
+        public long getSettlements() {
+            return SETTLEMENT.getCount();
+        }
+
+        @Override
+        public double getSettlementMeanNanos() {
+            return SETTLEMENT.getMean();
+        }
+
+        @Override
+        public long getSettlementP50Nanos() {
+            return SETTLEMENT.getQuantile(0.5);
+        }
+
+        @Override
+        public long getSettlementP99Nanos() {
+            return SETTLEMENT.getQuantile(0.99);
+        }
+
+        @Override
+        public long getSettlementMaxNanos() {
+            return SETTLEMENT.getMax();
+        }
+
+        @Override
+        public void reset() {
+            THROWS.values().forEach(LongAdder::reset);
+            for (LongAdder adder : TRANSITIONS) {
+                adder.reset();
+            }
+            for (int id = 0; id < OUTCOME_SLOTS; id++) {
+                PLACED[id].reset();
+                SETTLED[id].reset();
+            }
+            SETTLEMENT.reset();
+        }
+    }
+}
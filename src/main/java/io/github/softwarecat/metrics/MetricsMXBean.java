@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.metrics;
+
+import java.util.Map;
+
+/**
+ * {@link MetricsMXBean} exposes the {@link Metrics} of the simulation over JMX, under
+ * {@link Metrics#OBJECT_NAME}. Counts are totals since the start of the JVM or the last {@link #reset()}.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Returns the number of throws rolled.
+     *
+     * @return the number of throws
+     */
+    long getRolls();
+
+    /**
+     * Returns the number of throws rolled of each {@link io.github.softwarecat.dice.Throw} subclass.
+     *
+     * @return the count by simple class name
+     */
+    Map<String, Long> getRollsByThrow();
+
+    /**
+     * Returns the number of throws of each transition of the {@link io.github.softwarecat.Game}.
+     *
+     * @return the count by transition, such as {@code "point 6 SEVEN_OUT"}
+     */
+    Map<String, Long> getTransitions();
+
+    /**
+     * Returns the number of bets placed on each {@link io.github.softwarecat.Outcome}.
+     *
+     * @return the count by {@link io.github.softwarecat.Outcome} name
+     */
+    Map<String, Long> getBetsPlaced();
+
+    /**
+     * Returns the number of bets settled on each {@link io.github.softwarecat.Outcome}, whether won, lost or pushed.
+     *
+     * @return the count by {@link io.github.softwarecat.Outcome} name
+     */
+    Map<String, Long> getBetsSettled();
+
+    /**
+     * Returns the number of throws whose bets were settled.
+     *
+     * @return the number of settlements
+     */
+    long getSettlements();
+
+    /**
+     * Returns the mean time to settle the bets of one throw.
+     *
+     * @return the mean in nanoseconds
+     */
+    double getSettlementMeanNanos();
+
+    /**
+     * Returns the median time to settle the bets of one throw.
+     *
+     * @return the median in nanoseconds
+     */
+    long getSettlementP50Nanos();
+
+    /**
+     * Returns the 99th percentile of the time to settle the bets of one throw.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    long getSettlementP99Nanos();
+
+    /**
+     * Returns the longest time to settle the bets of one throw.
+     *
+     * @return the maximum in nanoseconds
+     */
+    long getSettlementMaxNanos();
+
+    /**
+     * Clears every count.
+     */
+    void reset();
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.player;
+
+/**
+ * {@link Fibonacci} bets the base bet times a Fibonacci number. It moves one step up the sequence after a loss, and
+ * two steps down after a win.
+ */
+public class Fibonacci extends PassLinePlayer {
+
+    /**
+     * The Fibonacci numbers that fit in a long bet multiplier.
+     */
+    private static final long[] SEQUENCE = new long[60];
+
+    static {
+        SEQUENCE[0] = 1;
+        SEQUENCE[1] = 1;
+        for (int i = 2; i < SEQUENCE.length; i++) {
+            SEQUENCE[i] = SEQUENCE[i - 1] + SEQUENCE[i - 2];
+        }
+    }
+
+    /**
+     * The current position in the Fibonacci sequence.
+     */
+    protected int step;
+
+    /**
+     * Creates this {@link Fibonacci}.
+     *
+     * @param stake   the starting stake
+     * @param baseBet the bet at the start of the sequence
+     */
+    public Fibonacci(long stake, long baseBet) {
+        this(stake, baseBet, 0);
+    }
+
+    /**
+     * Creates this {@link Fibonacci}, backing the Pass Line bet with odds.
+     *
+     * @param stake        the starting stake
+     * @param baseBet      the bet at the start of the sequence
+     * @param oddsMultiple the odds bet as a multiple of the Pass Line bet, or zero for no odds
+     */
+    public Fibonacci(long stake, long baseBet, int oddsMultiple) {
+        super(stake, baseBet, oddsMultiple);
+    }
+
+    @Override
+    protected long nextBet() {
+        long multiplier = SEQUENCE[step];
+        return multiplier > Long.MAX_VALUE / baseBet ? Long.MAX_VALUE : baseBet * multiplier;
+    }
+
+    /**
+     * Moves two steps down the sequence after the Pass Line bet wins, and one step up after it loses.
+     *
+     * @param won true if the Pass Line bet won
+     */
+    @Override
+    protected void lineDecided(boolean won) {
+        if (won) {
+            step = Math.max(0, step - 2);
+        } else {
+            step = Math.min(SEQUENCE.length - 1, step + 1);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.player;
+
+/**
+ * {@link Martingale} doubles its Pass Line bet after every loss, and goes back to the base bet after a win, so a
+ * single win recovers all the losses of the streak.
+ */
+public class Martingale extends PassLinePlayer {
+
+    /**
+     * The number of losses since the last win.
+     */
+    protected int lossCount;
+
+    /**
+     * Creates this {@link Martingale}.
+     *
+     * @param stake   the starting stake
+     * @param baseBet the bet after a win
+     */
+    public Martingale(long stake, long baseBet) {
+        this(stake, baseBet, 0);
+    }
+
+    /**
+     * Creates this {@link Martingale}, backing the Pass Line bet with odds.
+     *
+     * @param stake        the starting stake
+     * @param baseBet      the bet after a win
+     * @param oddsMultiple the odds bet as a multiple of the Pass Line bet, or zero for no odds
+     */
+    public Martingale(long stake, long baseBet, int oddsMultiple) {
+        super(stake, baseBet, oddsMultiple);
+    }
+
+    @Override
+    protected long nextBet() {
+        return lossCount >= Long.numberOfLeadingZeros(baseBet) - 1 ? Long.MAX_VALUE : baseBet << lossCount;
+    }
+
+    /**
+     * Resets the loss count after the Pass Line bet wins, and increases it after it loses.
+     *
+     * @param won true if the Pass Line bet won
+     */
+    @Override
+    protected void lineDecided(boolean won) {
+        lossCount = won ? 0 : lossCount + 1;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.player;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.table.TableOutcomes;
+
+/**
+ * {@link PassLinePlayer} places the same Pass Line bet on every come out roll, and can back it with free odds once a
+ * point is established.
+ */
+public class PassLinePlayer extends Player {
+
+    /**
+     * The amount of every Pass Line bet.
+     */
+    protected final long baseBet;
+
+    /**
+     * The odds bet as a multiple of the Pass Line bet, or zero for no odds.
+     */
+    protected final int oddsMultiple;
+
+    /**
+     * The amount of the current Pass Line bet.
+     */
+    protected long lineBet;
+
+    /**
+     * Creates this {@link PassLinePlayer}, without odds.
+     *
+     * @param stake   the starting stake
+     * @param baseBet the amount of every Pass Line bet
+     */
+    public PassLinePlayer(long stake, long baseBet) {
+        this(stake, baseBet, 0);
+    }
+
+    /**
+     * Creates this {@link PassLinePlayer}.
+     *
+     * @param stake        the starting stake
+     * @param baseBet      the amount of every Pass Line bet
+     * @param oddsMultiple the odds bet as a multiple of the Pass Line bet, or zero for no odds
+     */
+    public PassLinePlayer(long stake, long baseBet, int oddsMultiple) {
+        super(stake);
+        if (baseBet <= 0) {
+            throw new IllegalArgumentException("The base bet must be positive");
+        }
+        if (oddsMultiple < 0) {
+            throw new IllegalArgumentException("The odds multiple cannot be negative");
+        }
+        this.baseBet = baseBet;
+        this.oddsMultiple = oddsMultiple;
+    }
+
+    /**
+     * Returns the amount of the next Pass Line bet. Subclasses override this to change the bet after wins and losses.
+     *
+     * @return the amount of the next bet
+     */
+    protected long nextBet() {
+        return baseBet;
+    }
+
+    /**
+     * Places the next Pass Line bet.
+     */
+    @Override
+    public void comeOut() {
+        long before = stake;
+        betPassLine(nextBet());
+        lineBet = before - stake;
+    }
+
+    /**
+     * Takes odds behind the Pass Line bet, if this {@link PassLinePlayer} plays odds.
+     *
+     * @param point the point
+     */
+    @Override
+    public void pointEstablished(int point) {
+        if (oddsMultiple > 0 && lineBet > 0) {
+            placeBet(TableOutcomes.passOdds(point), Math.multiplyExact(lineBet, (long) oddsMultiple));
+        }
+    }
+
+    /**
+     * Calls {@link PassLinePlayer#lineDecided(boolean)} when the throw decides the Pass Line bet.
+     *
+     * @param sum   the sum of the dice
+     * @param point the point when the dice were thrown, or zero for a come out roll
+     * @param hard  true if the throw was a hardways number, a pair of 2s, 3s, 4s or 5s
+     * @param event the event of the throw, one of the event constants of {@link Game}
+     */
+    @Override
+    public void rollResolved(int sum, int point, boolean hard, int event) {
+        if (lineBet <= 0) {
+            return;
+        }
+        if (event == Game.COME_OUT_WIN || event == Game.POINT_MADE) {
+            lineDecided(true);
+        } else if (event == Game.COME_OUT_CRAPS || event == Game.SEVEN_OUT) {
+            lineDecided(false);
+        }
+    }
+
+    /**
+     * Called once for every decision of the Pass Line bet, however many other bets, such as the odds, the same throw
+     * settles. Subclasses override this to change the next bet.
+     *
+     * @param won true if the Pass Line bet won
+     */
+    protected void lineDecided(boolean won) {
+    }
+}
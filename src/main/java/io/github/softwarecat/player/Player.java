@@ -24,5 +24,285 @@
 
 package io.github.softwarecat.player;
 
-public abstract class Player {
+import io.github.softwarecat.Game;
+import io.github.softwarecat.GameListener;
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.table.Table;
+import io.github.softwarecat.table.TableOutcomes;
+
+/**
+ * {@link Player} is the superclass of the betting strategies. A {@link Player} keeps track of its stake, places bets
+ * on its {@link Table}, and decides whether or not it is still playing.
+ * <p>
+ * The {@link Table} settles the bets after each throw of its {@link Game} and then passes the throw on to the
+ * {@link Player}, which turns it into callbacks that take primitives only, so a strategy runs inside the simulation
+ * loop without allocating or boxing: {@link Player#comeOut()} before every come out roll,
+ * {@link Player#pointEstablished(int)}, {@link Player#rollResolved(int, int, boolean, int)} after every throw, and
+ * {@link Player#bankrollUpdated(long, long)} whenever a bet is won or lost. Amounts are in the fixed-point units of
+ * {@link io.github.softwarecat.Money}.
+ */
+public abstract class Player implements GameListener {
+
+    /**
+     * The {@link Player}'s current stake, not counting bets on the table. Initialized to the {@link Player}'s starting
+     * budget.
+     */
+    protected long stake;
+
+    /**
+     * The stake the {@link Player} started with.
+     */
+    protected final long startingStake;
+
+    /**
+     * The loss from the starting stake at which the {@link Player} stops, or zero to play on.
+     */
+    protected long stopLoss;
+
+    /**
+     * The win over the starting stake at which the {@link Player} stops, or zero to play on.
+     */
+    protected long winGoal;
+
+    /**
+     * The {@link Table} this {@link Player} is seated at, or null.
+     */
+    protected Table table;
+
+    /**
+     * The seat of this {@link Player} at its {@link Table}.
+     */
+    protected int seat = -1;
+
+    /**
+     * Creates this {@link Player} with the given starting stake.
+     *
+     * @param stake the starting stake
+     */
+    public Player(long stake) {
+        this.stake = stake;
+        startingStake = stake;
+    }
+
+    /**
+     * Makes this {@link Player} stop once it has lost or won the given amounts. The limits are checked whenever the
+     * {@link Player} has no bets on the table, so a decision in progress is always played out.
+     *
+     * @param stopLoss the loss from the starting stake at which to stop, or zero to play on
+     * @param winGoal  the win over the starting stake at which to stop, or zero to play on
+     */
+    public void setLimits(long stopLoss, long winGoal) {
+        if (stopLoss < 0 || winGoal < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative");
+        }
+        this.stopLoss = stopLoss;
+        this.winGoal = winGoal;
+    }
+
+    /**
+     * Called by {@link Table#join(Player)} when this {@link Player} takes a seat.
+     *
+     * @param table the {@link Table}
+     * @param seat  the seat at the {@link Table}
+     */
+    public void seat(Table table, int seat) {
+        this.table = table;
+        this.seat = seat;
+    }
+
+    /**
+     * Returns true while this {@link Player} is still active. The default is to play while there is a bet on the
+     * table, or stake left and neither the stop-loss nor the win goal has been reached; subclasses may also stop for
+     * other reasons.
+     *
+     * @return true if this {@link Player} is still playing
+     */
+    public boolean playing() {
+        if (getAmountOnTable() > 0) {
+            return true;
+        }
+        if (stake <= 0) {
+            return false;
+        }
+        return (stopLoss == 0 || stake > startingStake - stopLoss) && (winGoal == 0 || stake < startingStake + winGoal);
+    }
+
+    /**
+     * Called by the simulation before every throw. This calls {@link Player#comeOut()} when the point is off.
+     *
+     * @param point the current point, or zero before a come out roll
+     */
+    public void beforeRoll(int point) {
+        if (point == 0) {
+            comeOut();
+        }
+    }
+
+    /**
+     * Passes a throw, whose bets the {@link Table} has already settled, on to the callbacks.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @param event     the event of the throw, one of the event constants of {@link Game}
+     * @param point     the point when the dice were thrown, or zero for a come out roll
+     */
+    @Override
+    public void rolled(Throw diceThrow, int event, int point) {
+        int sum = diceThrow.getSum();
+        if (event == Game.POINT_ESTABLISHED) {
+            pointEstablished(sum);
+        }
+        rollResolved(sum, point, diceThrow.isHard(), event);
+    }
+
+    /**
+     * Called by the {@link Table} when a bet of this {@link Player} wins or pushes.
+     *
+     * @param returned the amount of the bet returned from the table, or zero if the bet stays working
+     * @param winnings the amount won, or zero for a push
+     */
+    public void win(long returned, long winnings) {
+        stake += returned + winnings;
+        if (winnings != 0) {
+            bankrollUpdated(stake, winnings);
+        }
+    }
+
+    /**
+     * Called by the {@link Table} when a bet of this {@link Player} loses.
+     *
+     * @param amount the amount of the bet
+     */
+    public void lose(long amount) {
+        bankrollUpdated(stake, -amount);
+    }
+
+    /**
+     * Places a bet on the {@link Table}, taking the amount from the stake. The bet is limited to the stake.
+     *
+     * @param outcome the {@link Outcome} to bet on
+     * @param amount  the amount to bet
+     * @return the slot of the bet on the {@link Table}, or -1 if there is no stake left to bet
+     * @throws IllegalStateException if this {@link Player} is not seated, or the bet cannot be placed now
+     */
+    protected int placeBet(Outcome outcome, long amount) {
+        long bet = Math.min(amount, stake);
+        if (bet <= 0) {
+            return -1;
+        }
+        int slot = seated().placeBet(outcome, bet, seat);
+        stake -= bet;
+        return slot;
+    }
+
+    /**
+     * Adds to a bet on the {@link Table}, taking the amount from the stake. The amount is limited to the stake.
+     *
+     * @param slot   the slot of the bet
+     * @param amount the amount to add
+     */
+    protected void pressBet(int slot, long amount) {
+        long press = Math.min(amount, stake);
+        if (press <= 0) {
+            return;
+        }
+        seated().press(slot, press, seat);
+        stake -= press;
+    }
+
+    /**
+     * Takes a bet down from the {@link Table}, returning it to the stake.
+     *
+     * @param slot the slot of the bet
+     */
+    protected void removeBet(int slot) {
+        stake += seated().removeBet(slot, seat);
+    }
+
+    /**
+     * Places a Pass Line bet, taking the amount from the stake. The bet is limited to the stake.
+     *
+     * @param amount the amount to bet
+     */
+    protected void betPassLine(long amount) {
+        placeBet(TableOutcomes.PASS_LINE, amount);
+    }
+
+    private Table seated() {
+        if (table == null) {
+            throw new IllegalStateException("The player is not seated at a table");
+        }
+        return table;
+    }
+
+    /**
+     * Sets the stake so that the bankroll, counting the bets on the table, is the given amount. This restores a
+     * {@link Player} from a checkpoint of a replay; the state of the strategy itself is not restored.
+     *
+     * @param bankroll the bankroll to restore
+     */
+    public void restoreBankroll(long bankroll) {
+        stake = bankroll - getAmountOnTable();
+    }
+
+    /**
+     * Called before every come out roll. This is where a strategy places its line bets.
+     */
+    public void comeOut() {
+    }
+
+    /**
+     * Called when a come out roll establishes a point.
+     *
+     * @param point the point
+     */
+    public void pointEstablished(int point) {
+    }
+
+    /**
+     * Called after every throw, once bets have been settled.
+     *
+     * @param sum   the sum of the dice
+     * @param point the point when the dice were thrown, or zero for a come out roll
+     * @param hard  true if the throw was a hardways number, a pair of 2s, 3s, 4s or 5s
+     * @param event the event of the throw, one of the event constants of {@link Game}
+     */
+    public void rollResolved(int sum, int point, boolean hard, int event) {
+    }
+
+    /**
+     * Called whenever a bet is won or lost.
+     *
+     * @param stake  the new stake
+     * @param change the amount won, or the negated amount lost
+     */
+    public void bankrollUpdated(long stake, long change) {
+    }
+
+    /**
+     * Gets the {@link Player}'s current stake, not counting bets on the table.
+     *
+     * @return the current stake
+     */
+    public long getStake() {
+        return stake;
+    }
+
+    /**
+     * Gets the total amount of this {@link Player}'s bets on the table.
+     *
+     * @return the amount on the table
+     */
+    public long getAmountOnTable() {
+        return table == null ? 0 : table.getAmountOnTable(seat);
+    }
+
+    /**
+     * Gets the {@link Player}'s stake plus the bets it has on the table.
+     *
+     * @return the current bankroll
+     */
+    public long getBankroll() {
+        return stake + getAmountOnTable();
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link BivariateStatistics} keeps the means, variances and covariance of a stream of pairs of values in constant
+ * memory, with the bivariate form of Welford's online algorithm. Like {@link RunningStatistics}, two
+ * {@link BivariateStatistics} of separate streams can be merged.
+ */
+public class BivariateStatistics {
+
+    /**
+     * The number of pairs added.
+     */
+    protected long count;
+
+    /**
+     * The mean of the first values.
+     */
+    protected double meanX;
+
+    /**
+     * The mean of the second values.
+     */
+    protected double meanY;
+
+    /**
+     * The sum of the squared differences of the first values from their mean.
+     */
+    protected double squaredDeviationsX;
+
+    /**
+     * The sum of the squared differences of the second values from their mean.
+     */
+    protected double squaredDeviationsY;
+
+    /**
+     * The sum of the products of the differences of both values from their means.
+     */
+    protected double coDeviations;
+
+    /**
+     * Adds a pair of values to the stream.
+     *
+     * @param x the first value
+     * @param y the second value
+     */
+    public void add(double x, double y) {
+        count++;
+        double deltaX = x - meanX;
+        double deltaY = y - meanY;
+        meanX += deltaX / count;
+        meanY += deltaY / count;
+        squaredDeviationsX += deltaX * (x - meanX);
+        squaredDeviationsY += deltaY * (y - meanY);
+        coDeviations += deltaX * (y - meanY);
+    }
+
+    /**
+     * Adds the pairs of another {@link BivariateStatistics} to this one, with the pairwise update of Chan et al.
+     *
+     * @param other the {@link BivariateStatistics} to merge into this one
+     * @return this {@link BivariateStatistics}
+     */
+    public BivariateStatistics merge(BivariateStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long total = count + other.count;
+        double deltaX = other.meanX - meanX;
+        double deltaY = other.meanY - meanY;
+        double weight = (double) count * other.count / total;
+        meanX += deltaX * other.count / total;
+        meanY += deltaY * other.count / total;
+        squaredDeviationsX += other.squaredDeviationsX + deltaX * deltaX * weight;
+        squaredDeviationsY += other.squaredDeviationsY + deltaY * deltaY * weight;
+        coDeviations += other.coDeviations + deltaX * deltaY * weight;
+        count = total;
+        return this;
+    }
+
+    /**
+     * Gets the number of pairs added.
+     *
+     * @return the number of pairs
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the first values.
+     *
+     * @return the mean, or {@link Double#NaN} if no pairs were added
+     */
+    public double getMeanX() {
+        return count == 0 ? Double.NaN : meanX;
+    }
+
+    /**
+     * Gets the mean of the second values.
+     *
+     * @return the mean, or {@link Double#NaN} if no pairs were added
+     */
+    public double getMeanY() {
+        return count == 0 ? Double.NaN : meanY;
+    }
+
+    /**
+     * Gets the sample variance of the first values.
+     *
+     * @return the variance, or {@link Double#NaN} if fewer than two pairs were added
+     */
+    public double getVarianceX() {
+        return count < 2 ? Double.NaN : squaredDeviationsX / (count - 1);
+    }
+
+    /**
+     * Gets the sample variance of the second values.
+     *
+     * @return the variance, or {@link Double#NaN} if fewer than two pairs were added
+     */
+    public double getVarianceY() {
+        return count < 2 ? Double.NaN : squaredDeviationsY / (count - 1);
+    }
+
+    /**
+     * Gets the sample covariance of the two values.
+     *
+     * @return the covariance, or {@link Double#NaN} if fewer than two pairs were added
+     */
+    public double getCovariance() {
+        return count < 2 ? Double.NaN : coDeviations / (count - 1);
+    }
+
+    /**
+     * Gets the sample correlation of the two values.
+     *
+     * @return the correlation, or {@link Double#NaN} if fewer than two pairs were added or either value is constant
+     */
+    public double getCorrelation() {
+        return coDeviations / Math.sqrt(squaredDeviationsX * squaredDeviationsY);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d meanX=%.4f meanY=%.4f cov=%.4f", count, getMeanX(), getMeanY(), getCovariance());
+    }
+}
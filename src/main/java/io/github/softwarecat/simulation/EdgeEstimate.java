@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link EdgeEstimate} is the result of an {@link EdgeEstimator} run: the estimated mean net win of a session, its
+ * standard error, and how much the variance reduction gained over plain Monte Carlo on the same sessions. Amounts are
+ * in the fixed-point units of {@link io.github.softwarecat.Money}.
+ */
+public class EdgeEstimate {
+
+    /**
+     * The number of sessions played.
+     */
+    protected final long sessions;
+
+    /**
+     * The number of throws over all sessions.
+     */
+    protected final long rolls;
+
+    /**
+     * The estimated mean net win of a session.
+     */
+    protected final double mean;
+
+    /**
+     * The standard error of the estimate.
+     */
+    protected final double standardError;
+
+    /**
+     * The standard error plain Monte Carlo would have had with the same number of sessions.
+     */
+    protected final double plainStandardError;
+
+    /**
+     * The coefficient of the control variate, or zero without one.
+     */
+    protected final double beta;
+
+    /**
+     * Creates this {@link EdgeEstimate}.
+     *
+     * @param sessions           the number of sessions played
+     * @param rolls              the number of throws over all sessions
+     * @param mean               the estimated mean net win of a session
+     * @param standardError      the standard error of the estimate
+     * @param plainStandardError the standard error of plain Monte Carlo with the same number of sessions
+     * @param beta               the coefficient of the control variate, or zero without one
+     */
+    public EdgeEstimate(long sessions, long rolls, double mean, double standardError, double plainStandardError,
+                        double beta) {
+        this.sessions = sessions;
+        this.rolls = rolls;
+        this.mean = mean;
+        this.standardError = standardError;
+        this.plainStandardError = plainStandardError;
+        this.beta = beta;
+    }
+
+    public long getSessions() {
+        return sessions;
+    }
+
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the estimated mean net win of a session.
+     *
+     * @return the mean net win
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the standard error of the estimate.
+     *
+     * @return the standard error
+     */
+    public double getStandardError() {
+        return standardError;
+    }
+
+    /**
+     * Gets the standard error plain Monte Carlo would have had with the same number of sessions.
+     *
+     * @return the plain standard error
+     */
+    public double getPlainStandardError() {
+        return plainStandardError;
+    }
+
+    /**
+     * Gets the coefficient of the control variate.
+     *
+     * @return the coefficient, or zero without a control variate
+     */
+    public double getBeta() {
+        return beta;
+    }
+
+    /**
+     * Gets the factor by which the variance reduction cut the variance of the estimate, compared with plain Monte
+     * Carlo on the same number of sessions.
+     *
+     * @return the variance ratio; above 1 means fewer sessions are needed for the same confidence interval
+     */
+    public double getGain() {
+        return plainStandardError * plainStandardError / (standardError * standardError);
+    }
+
+    /**
+     * Gets the number of plain Monte Carlo sessions that would give the same standard error.
+     *
+     * @return the effective sample size
+     */
+    public double getEffectiveSampleSize() {
+        return sessions * getGain();
+    }
+
+    /**
+     * Returns the half-width of a confidence interval of the mean, with the normal approximation.
+     *
+     * @param z the quantile of the standard normal distribution, such as 1.96 for 95%
+     * @return the half-width of the interval
+     */
+    public double getHalfWidth(double z) {
+        return z * standardError;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mean %.4f ± %.4f (plain ± %.4f), gain %.2fx, effective sessions %.0f of %d",
+                mean, standardError, plainStandardError, getGain(), getEffectiveSampleSize(), sessions);
+    }
+}
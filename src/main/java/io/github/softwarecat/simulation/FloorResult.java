@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link FloorResult} summarizes a run of a {@link FloorScheduler}: how many throws were played at how many tables,
+ * how fast, and how the players ended up.
+ */
+public class FloorResult {
+
+    /**
+     * The number of tables.
+     */
+    protected final int tables;
+
+    /**
+     * The number of throws over all tables.
+     */
+    protected final long rolls;
+
+    /**
+     * The wall-clock time of the run, in nanoseconds.
+     */
+    protected final long elapsedNanos;
+
+    /**
+     * The final bankrolls of all players.
+     */
+    protected final RunningStatistics finalBankroll;
+
+    /**
+     * Creates this {@link FloorResult}.
+     *
+     * @param tables        the number of tables
+     * @param rolls         the number of throws over all tables
+     * @param elapsedNanos  the wall-clock time of the run, in nanoseconds
+     * @param finalBankroll the final bankrolls of all players
+     */
+    public FloorResult(int tables, long rolls, long elapsedNanos, RunningStatistics finalBankroll) {
+        this.tables = tables;
+        this.rolls = rolls;
+        this.elapsedNanos = elapsedNanos;
+        this.finalBankroll = finalBankroll;
+    }
+
+    /**
+     * Gets the number of tables.
+     *
+     * @return the number of tables
+     */
+    public int getTables() {
+        return tables;
+    }
+
+    /**
+     * Gets the number of throws over all tables.
+     *
+     * @return the number of throws
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the wall-clock time of the run.
+     *
+     * @return the elapsed time, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of the run: throws over all tables, that is tables times throws per table, per second.
+     *
+     * @return the number of throws per second
+     */
+    public double getRollsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rolls * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the final bankrolls of all players.
+     *
+     * @return the statistics of the final bankrolls
+     */
+    public RunningStatistics getFinalBankroll() {
+        return finalBankroll;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d tables, %d rolls in %.3f s (%.0f rolls/s), mean final bankroll %.2f",
+                tables, rolls, elapsedNanos / 1e9, getRollsPerSecond(), finalBankroll.getMean());
+    }
+}
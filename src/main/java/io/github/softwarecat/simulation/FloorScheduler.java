@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.table.Table;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link FloorScheduler} simulates a casino floor: many independent {@link Table}s, each with several {@link Player}s.
+ * <p>
+ * Every {@link Table} is a cooperative task rather than a thread. A small, fixed pool of carrier threads takes tasks
+ * from a shared run queue, plays one quantum of throws, and puts the task back at the end of the queue, so thousands of
+ * tables share a few threads. After every quantum a table publishes a {@link TableEvent} to a bounded sink; when the
+ * consumer of the events falls behind the sink fills up and the carriers block, which throttles the simulation to the
+ * speed of the consumer instead of buffering without limit.
+ * <p>
+ * The {@link RandomSource} of each {@link Table} is split from the master seed in table order before any table starts,
+ * so the final bankrolls do not depend on the number of carriers or on how the tasks are interleaved.
+ */
+public class FloorScheduler {
+
+    /**
+     * The default number of throws a {@link Table} plays before giving up its carrier.
+     */
+    public static final int DEFAULT_QUANTUM = 256;
+
+    /**
+     * Creates a fresh {@link Player} for every seat.
+     */
+    protected final Supplier<? extends Player> strategy;
+
+    /**
+     * The number of {@link Player}s at each {@link Table}.
+     */
+    protected final int playersPerTable;
+
+    /**
+     * The number of carrier threads.
+     */
+    protected final int carriers;
+
+    /**
+     * The number of throws a {@link Table} plays before giving up its carrier.
+     */
+    protected final int quantum;
+
+    /**
+     * The capacity of the event sink.
+     */
+    protected final int sinkCapacity;
+
+    /**
+     * Creates a {@link FloorScheduler} with one carrier per core and the default quantum.
+     *
+     * @param strategy        creates the {@link Player} for each seat
+     * @param playersPerTable the number of {@link Player}s at each {@link Table}
+     */
+    public FloorScheduler(Supplier<? extends Player> strategy, int playersPerTable) {
+        this(strategy, playersPerTable, Runtime.getRuntime().availableProcessors(), DEFAULT_QUANTUM, 1024);
+    }
+
+    /**
+     * Creates a {@link FloorScheduler}.
+     *
+     * @param strategy        creates the {@link Player} for each seat
+     * @param playersPerTable the number of {@link Player}s at each {@link Table}
+     * @param carriers        the number of carrier threads
+     * @param quantum         the number of throws a {@link Table} plays before giving up its carrier
+     * @param sinkCapacity    the capacity of the event sink
+     */
+    public FloorScheduler(Supplier<? extends Player> strategy, int playersPerTable, int carriers, int quantum,
+                          int sinkCapacity) {
+        if (playersPerTable < 1) {
+            throw new IllegalArgumentException("A table needs at least one player");
+        }
+        if (carriers < 1) {
+            throw new IllegalArgumentException("A floor needs at least one carrier thread");
+        }
+        if (quantum < 1) {
+            throw new IllegalArgumentException("The quantum must be positive");
+        }
+        if (sinkCapacity < 1) {
+            throw new IllegalArgumentException("The sink capacity must be positive");
+        }
+        this.strategy = strategy;
+        this.playersPerTable = playersPerTable;
+        this.carriers = carriers;
+        this.quantum = quantum;
+        this.sinkCapacity = sinkCapacity;
+    }
+
+    /**
+     * Runs the floor until every {@link Table} is finished. The events are passed to the consumer on the calling
+     * thread, in the order they are published.
+     *
+     * @param tables        the number of {@link Table}s
+     * @param rollsPerTable the maximum number of throws at each {@link Table}; a {@link Table} finishes earlier once
+     *                      none of its {@link Player}s is playing
+     * @param seed          the master seed
+     * @param events        the consumer of the {@link TableEvent}s
+     * @return the summary of the run
+     */
+    public FloorResult run(int tables, int rollsPerTable, long seed, Consumer<? super TableEvent> events) {
+        RandomSource master = RandomSource.seeded(seed);
+        ConcurrentLinkedQueue<TableTask> runQueue = new ConcurrentLinkedQueue<>();
+        for (int index = 0; index < tables; index++) {
+            Player[] players = new Player[playersPerTable];
+            for (int seat = 0; seat < playersPerTable; seat++) {
+                players[seat] = strategy.get();
+            }
+            runQueue.add(new TableTask(index, players, master.split(), rollsPerTable, quantum));
+        }
+
+        BlockingQueue<TableEvent> sink = new ArrayBlockingQueue<>(sinkCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService pool = Executors.newFixedThreadPool(carriers, runnable -> {
+            Thread thread = new Thread(runnable, "craps-floor-carrier");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        for (int carrier = 0; carrier < carriers; carrier++) {
+            pool.execute(() -> carry(runQueue, sink, failure));
+        }
+
+        RunningStatistics finalBankroll = new RunningStatistics();
+        long rolls = 0;
+        try {
+            int finished = 0;
+            while (finished < tables) {
+                TableEvent event = sink.poll(100, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    if (failure.get() != null) {
+                        throw new IllegalStateException("A table of the floor failed", failure.get());
+                    }
+                    continue;
+                }
+                events.accept(event);
+                if (event.finished) {
+                    finished++;
+                    rolls += event.rolls;
+                    for (int seat = 0; seat < event.getPlayerCount(); seat++) {
+                        finalBankroll.add(event.getBankroll(seat));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the floor", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return new FloorResult(tables, rolls, System.nanoTime() - start, finalBankroll);
+    }
+
+    /**
+     * The loop of one carrier thread: runs a quantum of the next {@link Table} and publishes its event, until the run
+     * queue is empty. A task is only ever in the queue or on one carrier, so its state needs no locking. A carrier that
+     * finds the queue empty while others still hold tasks retires, so only the last few tables run on fewer carriers.
+     *
+     * @param runQueue the {@link Table}s waiting for a carrier
+     * @param sink     the event sink
+     * @param failure  where the first failure of a {@link Table} is recorded
+     */
+    private void carry(ConcurrentLinkedQueue<TableTask> runQueue, BlockingQueue<TableEvent> sink,
+                       AtomicReference<Throwable> failure) {
+        try {
+            TableTask task;
+            while ((task = runQueue.poll()) != null) {
+                boolean finished = task.step(quantum);
+                sink.put(new TableEvent(task.index, task.getRolls(), task.bankrolls(), finished));
+                if (!finished) {
+                    runQueue.add(task);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+}
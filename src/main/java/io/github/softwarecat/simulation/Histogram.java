@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import java.util.Arrays;
+
+/**
+ * {@link Histogram} counts long values in a fixed number of log-linear buckets, like an HDR histogram, to estimate
+ * quantiles of a stream in constant memory.
+ * <p>
+ * Values below 2<sup>{@link Histogram#SUB_BUCKET_BITS}</sup> in magnitude have a bucket each. Above that, every power
+ * of two is split into 2<sup>{@link Histogram#SUB_BUCKET_BITS}</sup> buckets, so a quantile is within about 3% of the
+ * true value. Negative values are counted by magnitude in a second set of buckets. Histograms of separate streams can
+ * be merged by adding their counts.
+ */
+public class Histogram {
+
+    /**
+     * The number of bits of precision kept for each value.
+     */
+    public static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets for each sign, enough for any non-negative long.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The counts of zero and the positive values, by bucket.
+     */
+    protected final long[] positive = new long[BUCKETS];
+
+    /**
+     * The counts of the negative values, by the bucket of their magnitude.
+     */
+    protected final long[] negative = new long[BUCKETS];
+
+    /**
+     * The number of values added.
+     */
+    protected long count;
+
+    /**
+     * Returns the bucket of a non-negative value.
+     *
+     * @param magnitude the value
+     * @return the index of its bucket
+     */
+    static int bucket(long magnitude) {
+        if (magnitude < SUB_BUCKETS) {
+            return (int) magnitude;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(magnitude);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (magnitude >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Returns the smallest value counted in a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the lowest value of the bucket
+     */
+    static long lowestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Returns the largest value counted in a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the highest value of the bucket
+     */
+    static long highestValue(int bucket) {
+        return bucket + 1 == BUCKETS ? Long.MAX_VALUE : lowestValue(bucket + 1) - 1;
+    }
+
+    /**
+     * Counts a value.
+     *
+     * @param value the value
+     */
+    public void add(long value) {
+        if (value >= 0) {
+            positive[bucket(value)]++;
+        } else {
+            negative[bucket(value == Long.MIN_VALUE ? Long.MAX_VALUE : -value)]++;
+        }
+        count++;
+    }
+
+    /**
+     * Adds the counts of another {@link Histogram} to this one.
+     *
+     * @param other the {@link Histogram} to merge into this one
+     * @return this {@link Histogram}
+     */
+    public Histogram merge(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            positive[i] += other.positive[i];
+            negative[i] += other.negative[i];
+        }
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * Removes every value, so this {@link Histogram} can be reused.
+     */
+    public void reset() {
+        Arrays.fill(positive, 0);
+        Arrays.fill(negative, 0);
+        count = 0;
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Estimates the given quantile of the values, as the midpoint of the bucket holding it.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the estimated value, or zero if no values were added
+     */
+    public long getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("A quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            seen += negative[i];
+            if (seen >= rank) {
+                return -midpoint(i);
+            }
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += positive[i];
+            if (seen >= rank) {
+                return midpoint(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the midpoint of a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the midpoint of the bucket
+     */
+    private static long midpoint(int bucket) {
+        long low = lowestValue(bucket);
+        return low + (highestValue(bucket) - low) / 2;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Money;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link ResultWriter} streams {@link SimulationResult}s in a machine-readable format, one record per shard as it
+ * completes and a final record for the whole run. Amounts are written in betting units, see {@link Money}.
+ * <p>
+ * The formats are:
+ * <ul>
+ *     <li>{@code csv}: a header line, then one line per record;</li>
+ *     <li>{@code json}: one JSON object per line, so a consumer can parse records as they arrive;</li>
+ *     <li>{@code binary}: fixed-size big-endian records of {@link ResultWriter#BINARY_RECORD_SIZE} bytes, as written
+ *     by {@link DataOutputStream}: the shard as an int (-1 for the whole run), the sessions and rolls as longs, then
+ *     the mean, standard deviation, minimum, median and maximum of the final stakes, the mean drawdown, and the lowest
+ *     and highest bankroll as doubles.</li>
+ * </ul>
+ * A record with no sessions, such as a shard that got none, has no statistics: its fields are empty in {@code csv},
+ * {@code null} in {@code json} and NaN in {@code binary}.
+ */
+public abstract class ResultWriter implements Closeable {
+
+    /**
+     * The number of statistics in a record, after the shard, the sessions and the rolls.
+     */
+    private static final int STATISTICS = 8;
+
+    /**
+     * The size of a record of the {@code binary} format.
+     */
+    public static final int BINARY_RECORD_SIZE = Integer.BYTES + 2 * Long.BYTES + STATISTICS * Double.BYTES;
+
+    /**
+     * The shard of the record for the whole run.
+     */
+    public static final int TOTAL = -1;
+
+    /**
+     * The names of the formats.
+     */
+    public static final List<String> FORMATS = List.of("csv", "json", "binary");
+
+    /**
+     * Creates a {@link ResultWriter} for the given format.
+     *
+     * @param format the name of the format: csv, json or binary
+     * @param out    the stream to write to
+     * @return the {@link ResultWriter}
+     */
+    public static ResultWriter of(String format, OutputStream out) {
+        switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv":
+                return new Csv(out);
+            case "json":
+                return new Json(out);
+            case "binary":
+                return new Binary(out);
+            default:
+                throw new IllegalArgumentException("Unknown format " + format + ", expected csv, json or binary");
+        }
+    }
+
+    /**
+     * Writes the record of one shard, or of the whole run.
+     *
+     * @param shard  the index of the shard, or {@link ResultWriter#TOTAL}
+     * @param result the statistics to write
+     * @throws IOException if the record cannot be written
+     */
+    public abstract void write(int shard, SimulationResult result) throws IOException;
+
+    /**
+     * Comma-separated values with a header line. Every record is flushed, so it reaches the consumer right away.
+     * Unlike a {@link java.io.PrintWriter}, the {@link BufferedWriter} reports write errors such as a full disk.
+     */
+    private static final class Csv extends ResultWriter {
+
+        private final BufferedWriter out;
+
+        private boolean header;
+
+        Csv(OutputStream out) {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(int shard, SimulationResult result) throws IOException {
+            if (!header) {
+                out.write("shard,sessions,rolls,mean_stake,sd_stake,min_stake,median_stake,max_stake,"
+                        + "mean_drawdown,min_bankroll,max_bankroll");
+                out.newLine();
+                header = true;
+            }
+            out.write(shard == TOTAL ? "total" : Integer.toString(shard));
+            out.write(String.format(Locale.ROOT, ",%d,%d", result.getSessions(), result.getRolls()));
+            for (double value : statistics(result)) {
+                out.write(',');
+                out.write(Double.isNaN(value) ? "" : Double.toString(value));
+            }
+            out.newLine();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * JSON Lines, one object per record. Every record is flushed, so it reaches the consumer right away, and write
+     * errors are reported as in {@link Csv}.
+     */
+    private static final class Json extends ResultWriter {
+
+        private final BufferedWriter out;
+
+        Json(OutputStream out) {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(int shard, SimulationResult result) throws IOException {
+            double[] statistics = statistics(result);
+            out.write(String.format(Locale.ROOT, "{\"shard\":%s,\"sessions\":%d,\"rolls\":%d,\"meanStake\":%s,\"sdStake\":%s,"
+                            + "\"minStake\":%s,\"medianStake\":%s,\"maxStake\":%s,\"meanDrawdown\":%s,"
+                            + "\"minBankroll\":%s,\"maxBankroll\":%s}%n",
+                    shard == TOTAL ? "\"total\"" : Integer.toString(shard), result.getSessions(), result.getRolls(),
+                    json(statistics[0]), json(statistics[1]), json(statistics[2]), json(statistics[3]),
+                    json(statistics[4]), json(statistics[5]), json(statistics[6]), json(statistics[7])));
+            out.flush();
+        }
+
+        /**
+         * JSON has no NaN or infinities, which is what empty statistics return.
+         */
+        private static String json(double value) {
+            return Double.isFinite(value) ? Double.toString(value) : "null";
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Fixed-size big-endian records. Every record is flushed, so it reaches the consumer right away.
+     */
+    private static final class Binary extends ResultWriter {
+
+        private final DataOutputStream out;
+
+        Binary(OutputStream out) {
+            this.out = new DataOutputStream(new BufferedOutputStream(out));
+        }
+
+        @Override
+        public void write(int shard, SimulationResult result) throws IOException {
+            out.writeInt(shard);
+            out.writeLong(result.getSessions());
+            out.writeLong(result.getRolls());
+            for (double value : statistics(result)) {
+                out.writeDouble(value);
+            }
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Returns the statistics of a record in betting units: the mean, standard deviation, minimum, median and maximum
+     * of the final stakes, the mean drawdown, and the lowest and highest bankroll. They are all NaN if there are no
+     * sessions, as the extremes of an empty {@link SimulationResult} are placeholders rather than amounts.
+     *
+     * @param result the statistics to write
+     * @return the statistics of the record
+     */
+    private static double[] statistics(SimulationResult result) {
+        double[] statistics = new double[STATISTICS];
+        if (result.getSessions() == 0) {
+            Arrays.fill(statistics, Double.NaN);
+            return statistics;
+        }
+        statistics[0] = units(result.getMeanStake());
+        statistics[1] = units(Math.sqrt(result.getStakeVariance()));
+        statistics[2] = Money.toDouble(result.getMinStake());
+        statistics[3] = Money.toDouble(result.getStakeQuantile(0.5));
+        statistics[4] = Money.toDouble(result.getMaxStake());
+        statistics[5] = units(result.getDrawdown().getMean());
+        statistics[6] = Money.toDouble(result.getMinBankroll());
+        statistics[7] = Money.toDouble(result.getMaxBankroll());
+        return statistics;
+    }
+
+    /**
+     * Converts a statistic of amounts in fixed-point units to betting units.
+     *
+     * @param units the statistic, in fixed-point units
+     * @return the statistic, in betting units
+     */
+    private static double units(double units) {
+        return units / Money.SCALE;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link RunningStatistics} keeps the count, mean, variance, minimum and maximum of a stream of values in constant
+ * memory, with Welford's online algorithm. Two {@link RunningStatistics} of separate streams can be merged, as if all
+ * values had been added to one, so shards of a parallel run can be combined afterwards.
+ */
+public class RunningStatistics {
+
+    /**
+     * The number of values added.
+     */
+    protected long count;
+
+    /**
+     * The mean of the values added.
+     */
+    protected double mean;
+
+    /**
+     * The sum of the squared differences from the mean.
+     */
+    protected double squaredDeviations;
+
+    /**
+     * The smallest value added.
+     */
+    protected double min = Double.POSITIVE_INFINITY;
+
+    /**
+     * The largest value added.
+     */
+    protected double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds a value to the stream.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of another {@link RunningStatistics} to this one, with the pairwise update of Chan et al.
+     *
+     * @param other the {@link RunningStatistics} to merge into this one
+     * @return this {@link RunningStatistics}
+     */
+    public RunningStatistics merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            squaredDeviations = other.squaredDeviations;
+            min = other.min;
+            max = other.max;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the values.
+     *
+     * @return the mean, or {@link Double#NaN} if no values were added
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Gets the sample variance of the values.
+     *
+     * @return the variance, or {@link Double#NaN} if fewer than two values were added
+     */
+    public double getVariance() {
+        return count < 2 ? Double.NaN : squaredDeviations / (count - 1);
+    }
+
+    /**
+     * Gets the sample standard deviation of the values.
+     *
+     * @return the standard deviation, or {@link Double#NaN} if fewer than two values were added
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Gets the standard error of the mean.
+     *
+     * @return the standard error, or {@link Double#NaN} if fewer than two values were added
+     */
+    public double getStandardError() {
+        return Math.sqrt(getVariance() / count);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * An easy-to-read String output method is also very handy.
+     *
+     * @return a String representation of the statistics
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.4f sd=%.4f min=%.4f max=%.4f",
+                count, getMean(), getStandardDeviation(), min, max);
+    }
+}
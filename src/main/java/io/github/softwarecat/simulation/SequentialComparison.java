@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link SequentialComparison} is the outcome of a sequential test between two strategies by a
+ * {@link SequentialSimulator}: the mean difference in bankroll change of a session, strategy A minus strategy B, its
+ * confidence interval, and the decision reached.
+ */
+public class SequentialComparison {
+
+    /**
+     * The decision of a sequential test.
+     */
+    public enum Decision {
+        /**
+         * Strategy A has the higher mean bankroll change.
+         */
+        A_BETTER,
+        /**
+         * Strategy B has the higher mean bankroll change.
+         */
+        B_BETTER,
+        /**
+         * The strategies differ by less than the indifference margin.
+         */
+        EQUIVALENT,
+        /**
+         * The session limit was reached first.
+         */
+        UNDECIDED
+    }
+
+    /**
+     * The decision reached.
+     */
+    protected final Decision decision;
+
+    /**
+     * The mean difference in bankroll change of a session, A minus B.
+     */
+    protected final double meanDifference;
+
+    /**
+     * The half-width of the confidence interval of the difference at the last look.
+     */
+    protected final double halfWidth;
+
+    /**
+     * The number of sessions played by each strategy.
+     */
+    protected final long sessions;
+
+    /**
+     * The number of times the confidence interval was checked.
+     */
+    protected final int looks;
+
+    /**
+     * Creates this {@link SequentialComparison}.
+     *
+     * @param decision       the decision reached
+     * @param meanDifference the mean difference in bankroll change of a session, A minus B
+     * @param halfWidth      the half-width of the confidence interval at the last look
+     * @param sessions       the number of sessions played by each strategy
+     * @param looks          the number of times the confidence interval was checked
+     */
+    public SequentialComparison(Decision decision, double meanDifference, double halfWidth, long sessions, int looks) {
+        this.decision = decision;
+        this.meanDifference = meanDifference;
+        this.halfWidth = halfWidth;
+        this.sessions = sessions;
+        this.looks = looks;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    public double getMeanDifference() {
+        return meanDifference;
+    }
+
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    public long getSessions() {
+        return sessions;
+    }
+
+    public int getLooks() {
+        return looks;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: difference %.4f ± %.4f after %d sessions each, %d looks", decision, meanDifference,
+                halfWidth, sessions, looks);
+    }
+}
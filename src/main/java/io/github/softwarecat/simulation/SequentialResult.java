@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link SequentialResult} is the outcome of one strategy of a {@link SequentialSimulator} run: the estimated mean
+ * bankroll change of a session, with a confidence interval that stays valid however many times it was looked at.
+ * Amounts are in the fixed-point units of {@link io.github.softwarecat.Money}.
+ */
+public class SequentialResult {
+
+    /**
+     * The statistics of all sessions played.
+     */
+    protected final SimulationResult result;
+
+    /**
+     * The starting bankroll of every session.
+     */
+    protected final long startingBankroll;
+
+    /**
+     * The half-width of the confidence interval at the last look.
+     */
+    protected final double halfWidth;
+
+    /**
+     * The number of times the confidence interval was checked.
+     */
+    protected final int looks;
+
+    /**
+     * True if the target precision was reached before the session limit.
+     */
+    protected final boolean converged;
+
+    /**
+     * Creates this {@link SequentialResult}.
+     *
+     * @param result           the statistics of all sessions played
+     * @param startingBankroll the starting bankroll of every session
+     * @param halfWidth        the half-width of the confidence interval at the last look
+     * @param looks            the number of times the confidence interval was checked
+     * @param converged        true if the target precision was reached
+     */
+    public SequentialResult(SimulationResult result, long startingBankroll, double halfWidth, int looks,
+                            boolean converged) {
+        this.result = result;
+        this.startingBankroll = startingBankroll;
+        this.halfWidth = halfWidth;
+        this.looks = looks;
+        this.converged = converged;
+    }
+
+    /**
+     * Gets the estimated mean bankroll change of a session.
+     *
+     * @return the mean change
+     */
+    public double getMeanChange() {
+        return result.getMeanStake() - startingBankroll;
+    }
+
+    /**
+     * Gets the half-width of the confidence interval of the mean change.
+     *
+     * @return the half-width
+     */
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    /**
+     * Gets the number of times the confidence interval was checked.
+     *
+     * @return the number of looks
+     */
+    public int getLooks() {
+        return looks;
+    }
+
+    /**
+     * Returns true if the target precision was reached before the session limit.
+     *
+     * @return true if converged
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * Gets the statistics of all sessions played.
+     *
+     * @return the statistics
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mean change %.4f ± %.4f after %d sessions, %d looks%s", getMeanChange(), halfWidth,
+                result.getSessions(), looks, converged ? "" : ", not converged");
+    }
+}
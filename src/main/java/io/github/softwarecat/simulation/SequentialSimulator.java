@@ -0,0 +1,357 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * {@link SequentialSimulator} plays sessions in batches and stops as soon as the answer is known, instead of playing a
+ * fixed number of sessions.
+ * <p>
+ * {@link SequentialSimulator#estimate(List, double, long)} runs several strategies side by side and retires each one
+ * once the confidence interval of its mean bankroll change is narrow enough. Every round fills the cores of the pool
+ * with batches of the strategies still running, so the cores of a retired strategy go to the others.
+ * {@link SequentialSimulator#compare(Supplier, Supplier, double, long)} plays two strategies on the same dice, batch
+ * for batch, and stops as soon as one is better or they are within a margin of each other.
+ * <p>
+ * Both look at their interval after every batch, in batch order, and drop the batches a round played past the
+ * stopping point. Batch {@code k} always draws from the same random number stream, so, like the shards of a
+ * {@link Simulator}, a seed gives the same result whatever the parallelism of the pool.
+ * <p>
+ * Looking at a confidence interval after every batch and stopping when it is good enough would make a plain 95%
+ * interval wrong more than 5% of the time. The interval of look {@code k} therefore spends only
+ * {@code alpha / (k (k + 1))} of the error probability, which sums to {@code alpha} over all looks, so the intervals
+ * are valid at every look at once.
+ */
+public class SequentialSimulator {
+
+    /**
+     * The smallest number of batch pairs a comparison plays before it may decide, so that the variance of the
+     * difference is estimated from a reasonable number of observations.
+     */
+    public static final int MIN_COMPARISON_BATCHES = 10;
+
+    /**
+     * The number of sessions in a batch.
+     */
+    protected final int batchSessions;
+
+    /**
+     * The maximum number of throws in a session.
+     */
+    protected final int rollsPerSession;
+
+    /**
+     * The largest number of sessions of one strategy.
+     */
+    protected final long maxSessions;
+
+    /**
+     * The probability that an interval does not contain the true value, over all looks.
+     */
+    protected final double alpha;
+
+    /**
+     * The pool running the batches.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Creates a {@link SequentialSimulator} running on the common {@link ForkJoinPool}.
+     *
+     * @param batchSessions   the number of sessions in a batch
+     * @param rollsPerSession the maximum number of throws in a session
+     * @param maxSessions     the largest number of sessions of one strategy
+     * @param confidence      the confidence level of the intervals, such as 0.95
+     */
+    public SequentialSimulator(int batchSessions, int rollsPerSession, long maxSessions, double confidence) {
+        this(batchSessions, rollsPerSession, maxSessions, confidence, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link SequentialSimulator}.
+     *
+     * @param batchSessions   the number of sessions in a batch
+     * @param rollsPerSession the maximum number of throws in a session
+     * @param maxSessions     the largest number of sessions of one strategy
+     * @param confidence      the confidence level of the intervals, such as 0.95
+     * @param pool            the pool running the batches
+     */
+    public SequentialSimulator(int batchSessions, int rollsPerSession, long maxSessions, double confidence,
+                               ForkJoinPool pool) {
+        if (batchSessions < 2 || rollsPerSession < 1) {
+            throw new IllegalArgumentException("A batch needs at least two sessions of at least one roll");
+        }
+        if (maxSessions < batchSessions) {
+            throw new IllegalArgumentException("The session limit must allow at least one batch");
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("The confidence level must be between 0 and 1");
+        }
+        this.batchSessions = batchSessions;
+        this.rollsPerSession = rollsPerSession;
+        this.maxSessions = maxSessions;
+        this.alpha = 1 - confidence;
+        this.pool = pool;
+    }
+
+    /**
+     * Estimates the mean bankroll change of a session of each strategy, stopping each one when the half-width of its
+     * confidence interval reaches the target or it has played the session limit.
+     *
+     * @param strategies      the strategies, each creating a fresh {@link Player} for every session
+     * @param targetHalfWidth the half-width of the confidence interval to reach, in the fixed-point units of
+     *                        {@link io.github.softwarecat.Money}
+     * @param seed            the master seed
+     * @return the results, in the order of the strategies
+     */
+    public List<SequentialResult> estimate(List<? extends Supplier<? extends Player>> strategies,
+                                           double targetHalfWidth, long seed) {
+        if (!(targetHalfWidth > 0)) {
+            throw new IllegalArgumentException("The target half-width must be positive");
+        }
+        RandomSource master = RandomSource.seeded(seed);
+        List<Estimate> estimates = new ArrayList<>(strategies.size());
+        for (Supplier<? extends Player> strategy : strategies) {
+            estimates.add(new Estimate(strategy, master.split()));
+        }
+
+        List<Estimate> running = new ArrayList<>(estimates);
+        while (!running.isEmpty()) {
+            int slots = Math.max(running.size(), pool.getParallelism());
+            List<Estimate> owners = new ArrayList<>(slots);
+            List<Callable<SimulationResult>> tasks = new ArrayList<>(slots);
+            for (int slot = 0; slot < slots; slot++) {
+                Estimate estimate = running.get(slot % running.size());
+                if (estimate.scheduled + batchSessions > maxSessions) {
+                    continue;
+                }
+                estimate.scheduled += batchSessions;
+                RandomSource rng = estimate.rng.split();
+                owners.add(estimate);
+                tasks.add(() -> estimate.simulator.runShard(batchSessions, rollsPerSession, rng));
+            }
+
+            List<SimulationResult> batches = invokeAll(tasks);
+            for (int i = 0; i < batches.size(); i++) {
+                Estimate estimate = owners.get(i);
+                if (!estimate.done) {
+                    estimate.look(batches.get(i), targetHalfWidth);
+                }
+            }
+            running.removeIf(estimate -> estimate.done);
+        }
+
+        List<SequentialResult> results = new ArrayList<>(estimates.size());
+        for (Estimate estimate : estimates) {
+            results.add(new SequentialResult(estimate.result, estimate.startingBankroll, estimate.halfWidth,
+                    estimate.looks, estimate.converged));
+        }
+        return results;
+    }
+
+    /**
+     * Tests which of two strategies has the higher mean bankroll change of a session. Both strategies play every
+     * batch on the same dice, and each pair of batches gives one observation of the difference, so the luck they
+     * share cancels out. The test stops when the confidence interval of the difference excludes zero, when it lies
+     * strictly inside the margin on either side of zero, or at the session limit.
+     *
+     * @param a      strategy A
+     * @param b      strategy B
+     * @param margin the indifference margin: differences smaller than this are treated as equivalent, in the
+     *               fixed-point units of {@link io.github.softwarecat.Money}
+     * @param seed   the master seed
+     * @return the decision of the test
+     */
+    public SequentialComparison compare(Supplier<? extends Player> a, Supplier<? extends Player> b, double margin,
+                                        long seed) {
+        if (!(margin > 0)) {
+            throw new IllegalArgumentException("The margin must be positive");
+        }
+        Simulator simulatorA = new Simulator(a, 1, pool);
+        Simulator simulatorB = new Simulator(b, 1, pool);
+        long offset = a.get().getBankroll() - b.get().getBankroll();
+        SplittableRandom master = new SplittableRandom(seed);
+        RunningStatistics difference = new RunningStatistics();
+        int pairs = Math.max(1, pool.getParallelism() / 2);
+        long sessions = 0;
+        int looks = 0;
+        double halfWidth = Double.POSITIVE_INFINITY;
+
+        while (sessions + batchSessions <= maxSessions) {
+            List<Callable<SimulationResult>> tasks = new ArrayList<>(pairs * 2);
+            long scheduled = sessions;
+            for (int pair = 0; pair < pairs && scheduled + batchSessions <= maxSessions; pair++) {
+                long batchSeed = master.nextLong();
+                tasks.add(() -> simulatorA.runShard(batchSessions, rollsPerSession, RandomSource.seeded(batchSeed)));
+                tasks.add(() -> simulatorB.runShard(batchSessions, rollsPerSession, RandomSource.seeded(batchSeed)));
+                scheduled += batchSessions;
+            }
+            List<SimulationResult> batches = invokeAll(tasks);
+            for (int i = 0; i < batches.size(); i += 2) {
+                difference.add(batches.get(i).getMeanStake() - batches.get(i + 1).getMeanStake() - offset);
+                sessions += batchSessions;
+                if (difference.getCount() < MIN_COMPARISON_BATCHES) {
+                    continue;
+                }
+
+                looks++;
+                halfWidth = criticalValue(looks) * difference.getStandardError();
+                double mean = difference.getMean();
+                if (mean - halfWidth > 0) {
+                    return new SequentialComparison(SequentialComparison.Decision.A_BETTER, mean, halfWidth,
+                            sessions, looks);
+                }
+                if (mean + halfWidth < 0) {
+                    return new SequentialComparison(SequentialComparison.Decision.B_BETTER, mean, halfWidth,
+                            sessions, looks);
+                }
+                if (Math.abs(mean) + halfWidth < margin) {
+                    return new SequentialComparison(SequentialComparison.Decision.EQUIVALENT, mean, halfWidth,
+                            sessions, looks);
+                }
+            }
+        }
+        return new SequentialComparison(SequentialComparison.Decision.UNDECIDED, difference.getMean(), halfWidth,
+                sessions, looks);
+    }
+
+    /**
+     * Returns the critical value of the two-sided interval at the given look, spending {@code alpha / (k (k + 1))}
+     * of the error probability at look {@code k}.
+     *
+     * @param look the number of the look, from 1
+     * @return the critical value of the standard normal distribution
+     */
+    protected double criticalValue(int look) {
+        return normalQuantile(1 - alpha / (2.0 * look * (look + 1)));
+    }
+
+    private List<SimulationResult> invokeAll(List<Callable<SimulationResult>> tasks) {
+        List<SimulationResult> results = new ArrayList<>(tasks.size());
+        for (Future<SimulationResult> future : pool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a batch", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A batch of the simulation failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the quantile of the standard normal distribution, with the rational approximation of Acklam, which has a
+     * relative error below 1.15e-9.
+     *
+     * @param p the probability, between 0 and 1 exclusive
+     * @return the value below which the standard normal distribution falls with probability p
+     */
+    static double normalQuantile(double p) {
+        if (!(p > 0 && p < 1)) {
+            throw new IllegalArgumentException("The probability must be between 0 and 1");
+        }
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        double low = 0.02425;
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            return -normalQuantile(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+    /**
+     * The running estimate of one strategy.
+     */
+    private final class Estimate {
+
+        private final Simulator simulator;
+
+        private final RandomSource rng;
+
+        private final long startingBankroll;
+
+        private final SimulationResult result = new SimulationResult();
+
+        private long scheduled;
+
+        private long played;
+
+        private int looks;
+
+        private double halfWidth = Double.POSITIVE_INFINITY;
+
+        private boolean converged;
+
+        private boolean done;
+
+        Estimate(Supplier<? extends Player> strategy, RandomSource rng) {
+            simulator = new Simulator(strategy, 1, pool);
+            this.rng = rng;
+            startingBankroll = strategy.get().getBankroll();
+        }
+
+        /**
+         * Adds the next batch of this strategy and checks the confidence interval.
+         *
+         * @param batch           the statistics of the batch
+         * @param targetHalfWidth the half-width to reach
+         */
+        void look(SimulationResult batch, double targetHalfWidth) {
+            result.merge(batch);
+            played += batchSessions;
+            looks++;
+            halfWidth = criticalValue(looks) * result.getFinalStake().getStandardError();
+            converged = halfWidth <= targetHalfWidth;
+            done = converged || played + batchSessions > maxSessions;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.table.Table;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link Session} plays the sessions of one worker of {@link Simulator}, {@link SweepEngine} and
+ * {@link EdgeEstimator} on a {@link Table} and {@link Game} of its own. Each session seats a fresh {@link Player}, and
+ * the caller feeds it throws by dense index (see {@link Dice#index(int, int)}) while the {@link Player} keeps playing,
+ * so the workers differ only in where their throws come from.
+ */
+final class Session {
+
+    private final Dice dice;
+
+    private final Table table = new Table();
+
+    private final Game game = new Game(table);
+
+    private final SimulationResult result;
+
+    private Player player;
+
+    /**
+     * Creates a {@link Session}.
+     *
+     * @param dice   maps the dense indexes to {@link Throw}s
+     * @param result records the throws and sessions played, or null to record nothing
+     */
+    Session(Dice dice, SimulationResult result) {
+        this.dice = dice;
+        this.result = result;
+    }
+
+    /**
+     * Starts a session: clears the {@link Game} and the {@link Table}, and seats a fresh {@link Player}.
+     *
+     * @param strategy creates the {@link Player}
+     * @return the starting bankroll of the {@link Player}
+     */
+    long start(Supplier<? extends Player> strategy) {
+        player = strategy.get();
+        game.reset();
+        table.reset();
+        table.join(player);
+        long bankroll = player.getBankroll();
+        if (result != null) {
+            result.startSession(bankroll);
+        }
+        return bankroll;
+    }
+
+    /**
+     * Returns true while the {@link Player} of the session keeps playing.
+     *
+     * @return true if the session goes on
+     */
+    boolean playing() {
+        return player.playing();
+    }
+
+    /**
+     * Plays one throw of the session.
+     *
+     * @param index the dense index of the {@link Throw}
+     * @return the event of the throw, one of the event constants of {@link Game}
+     */
+    int roll(int index) {
+        Throw diceThrow = dice.throwAt(index);
+        player.beforeRoll(game.getPoint());
+        int event = game.roll(diceThrow);
+        if (result != null) {
+            result.addRoll(diceThrow.getSum());
+            result.addBankroll(player.getBankroll());
+        }
+        return event;
+    }
+
+    /**
+     * Gets the point of the {@link Game}.
+     *
+     * @return the point, or zero while the point is off
+     */
+    int getPoint() {
+        return game.getPoint();
+    }
+
+    /**
+     * Ends the session.
+     *
+     * @return the final bankroll of the {@link Player}
+     */
+    long finish() {
+        long bankroll = player.getBankroll();
+        if (result != null) {
+            result.addSession(bankroll);
+        }
+        return bankroll;
+    }
+}
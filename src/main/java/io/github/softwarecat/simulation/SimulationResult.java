@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import java.util.Arrays;
+
+/**
+ * {@link SimulationResult} accumulates the statistics of a number of simulated sessions in constant memory, however
+ * many sessions and throws are played. Each shard of a {@link Simulator} run fills its own {@link SimulationResult},
+ * and the shards are then combined with {@link SimulationResult#merge(SimulationResult)}.
+ * <p>
+ * A session is reported with {@link SimulationResult#startSession(long)}, then
+ * {@link SimulationResult#addBankroll(long)} after every throw, and finally
+ * {@link SimulationResult#addSession(long)}. The bankroll is tracked to find the drawdown of each session: the largest
+ * drop from a peak.
+ */
+public class SimulationResult {
+
+    /**
+     * The number of times each sum of the dice, from 2 to 12, was thrown. Indexed by the sum.
+     */
+    protected final long[] sumCounts = new long[13];
+
+    /**
+     * The final stakes of the sessions.
+     */
+    protected final RunningStatistics finalStake = new RunningStatistics();
+
+    /**
+     * The distribution of the final stakes of the sessions, for quantiles.
+     */
+    protected final Histogram finalStakes = new Histogram();
+
+    /**
+     * The largest drawdown of each session.
+     */
+    protected final RunningStatistics drawdown = new RunningStatistics();
+
+    /**
+     * The number of throws of the dice, over all sessions.
+     */
+    protected long rolls;
+
+    /**
+     * The lowest bankroll at any time in any session.
+     */
+    protected long minBankroll = Long.MAX_VALUE;
+
+    /**
+     * The highest bankroll at any time in any session.
+     */
+    protected long maxBankroll = Long.MIN_VALUE;
+
+    /**
+     * The highest bankroll of the current session so far.
+     */
+    private long sessionPeak;
+
+    /**
+     * The largest drawdown of the current session so far.
+     */
+    private long sessionDrawdown;
+
+    /**
+     * Records a throw of the dice.
+     *
+     * @param sum the sum of the dice
+     */
+    public void addRoll(int sum) {
+        rolls++;
+        sumCounts[sum]++;
+    }
+
+    /**
+     * Records the start of a session.
+     *
+     * @param stake the starting stake of the {@link io.github.softwarecat.player.Player}
+     */
+    public void startSession(long stake) {
+        sessionPeak = stake;
+        sessionDrawdown = 0;
+        minBankroll = Math.min(minBankroll, stake);
+        maxBankroll = Math.max(maxBankroll, stake);
+    }
+
+    /**
+     * Records the bankroll of the {@link io.github.softwarecat.player.Player} during a session.
+     *
+     * @param stake the current stake
+     */
+    public void addBankroll(long stake) {
+        if (stake > sessionPeak) {
+            sessionPeak = stake;
+            maxBankroll = Math.max(maxBankroll, stake);
+        } else {
+            sessionDrawdown = Math.max(sessionDrawdown, sessionPeak - stake);
+            minBankroll = Math.min(minBankroll, stake);
+        }
+    }
+
+    /**
+     * Records the end of a session.
+     *
+     * @param finalStake the stake of the {@link io.github.softwarecat.player.Player} at the end of the session
+     */
+    public void addSession(long finalStake) {
+        addBankroll(finalStake);
+        this.finalStake.add(finalStake);
+        finalStakes.add(finalStake);
+        drawdown.add(sessionDrawdown);
+    }
+
+    /**
+     * Adds the statistics of another {@link SimulationResult} to this one.
+     *
+     * @param other the {@link SimulationResult} to merge into this one
+     * @return this {@link SimulationResult}
+     */
+    public SimulationResult merge(SimulationResult other) {
+        for (int i = 0; i < sumCounts.length; i++) {
+            sumCounts[i] += other.sumCounts[i];
+        }
+        rolls += other.rolls;
+        finalStake.merge(other.finalStake);
+        finalStakes.merge(other.finalStakes);
+        drawdown.merge(other.drawdown);
+        minBankroll = Math.min(minBankroll, other.minBankroll);
+        maxBankroll = Math.max(maxBankroll, other.maxBankroll);
+        return this;
+    }
+
+    /**
+     * Gets the number of sessions played.
+     *
+     * @return the number of sessions
+     */
+    public long getSessions() {
+        return finalStake.getCount();
+    }
+
+    /**
+     * Gets the number of throws over all sessions.
+     *
+     * @return the number of throws
+     */
+    public long getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the number of times the given sum of the dice was thrown.
+     *
+     * @param sum the sum of the dice, from 2 to 12
+     * @return the number of throws with that sum
+     */
+    public long getSumCount(int sum) {
+        return sumCounts[sum];
+    }
+
+    /**
+     * Gets the statistics of the final stake of the sessions.
+     *
+     * @return the final stake statistics
+     */
+    public RunningStatistics getFinalStake() {
+        return finalStake;
+    }
+
+    /**
+     * Gets the statistics of the largest drawdown of each session.
+     *
+     * @return the drawdown statistics
+     */
+    public RunningStatistics getDrawdown() {
+        return drawdown;
+    }
+
+    /**
+     * Gets the mean final stake over all sessions.
+     *
+     * @return the mean final stake, or {@link Double#NaN} if no sessions were played
+     */
+    public double getMeanStake() {
+        return finalStake.getMean();
+    }
+
+    /**
+     * Gets the sample variance of the final stake over all sessions.
+     *
+     * @return the variance of the final stake, or {@link Double#NaN} if fewer than two sessions were played
+     */
+    public double getStakeVariance() {
+        return finalStake.getVariance();
+    }
+
+    /**
+     * Estimates a quantile of the final stake over all sessions.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the estimated final stake
+     */
+    public long getStakeQuantile(double quantile) {
+        return finalStakes.getQuantile(quantile);
+    }
+
+    /**
+     * Gets the lowest final stake of any session.
+     *
+     * @return the lowest final stake
+     */
+    public long getMinStake() {
+        return (long) finalStake.getMin();
+    }
+
+    /**
+     * Gets the highest final stake of any session.
+     *
+     * @return the highest final stake
+     */
+    public long getMaxStake() {
+        return (long) finalStake.getMax();
+    }
+
+    /**
+     * Gets the lowest bankroll reached in any session, counting the starting stakes.
+     *
+     * @return the lowest bankroll, or {@link Long#MAX_VALUE} if no sessions were played
+     */
+    public long getMinBankroll() {
+        return minBankroll;
+    }
+
+    /**
+     * Gets the highest bankroll reached in any session, counting the starting stakes.
+     *
+     * @return the highest bankroll, or {@link Long#MIN_VALUE} if no sessions were played
+     */
+    public long getMaxBankroll() {
+        return maxBankroll;
+    }
+
+    /**
+     * An easy-to-read String output method is also very handy.
+     *
+     * @return a String representation of the statistics
+     */
+    @Override
+    public String toString() {
+        return String.format("%d sessions, %d rolls, final stake %s, median %d, drawdown %s, bankroll range [%d, %d], sums %s",
+                getSessions(), rolls, finalStake, getStakeQuantile(0.5), drawdown, minBankroll, maxBankroll,
+                Arrays.toString(Arrays.copyOfRange(sumCounts, 2, 13)));
+    }
+}
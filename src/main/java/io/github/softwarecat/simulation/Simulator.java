@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.table.Table;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link Simulator} plays many sessions of Craps with a betting strategy, and collects the results.
+ * <p>
+ * The sessions are split into a fixed number of shards, which run in parallel on a {@link ForkJoinPool}. Each shard has
+ * its own {@link Dice}, {@link Game} and {@link Table}, so the workers share nothing while running. The
+ * {@link RandomSource} of each shard is split from a master {@link SplittableRandom} in shard order before any shard
+ * starts, so the streams are independent and a run is reproducible for a fixed seed and shard count no matter how the
+ * shards are scheduled.
+ */
+public class Simulator {
+
+    /**
+     * The maximum number of throws selected at once with {@link Dice#nextBatch(int[], int)}.
+     */
+    protected static final int BATCH_SIZE = 1024;
+
+    /**
+     * Creates a fresh {@link Player} for every session.
+     */
+    protected final Supplier<? extends Player> strategy;
+
+    /**
+     * The number of shards the sessions are split into.
+     */
+    protected final int shards;
+
+    /**
+     * The pool running the shards.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Creates a {@link Simulator} with one shard per core, running on the common {@link ForkJoinPool}.
+     *
+     * @param strategy creates the {@link Player} for each session
+     */
+    public Simulator(Supplier<? extends Player> strategy) {
+        this(strategy, ForkJoinPool.getCommonPoolParallelism(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link Simulator}.
+     *
+     * @param strategy creates the {@link Player} for each session
+     * @param shards   the number of shards the sessions are split into
+     * @param pool     the pool running the shards
+     */
+    public Simulator(Supplier<? extends Player> strategy, int shards, ForkJoinPool pool) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("A simulation needs at least one shard");
+        }
+        this.strategy = strategy;
+        this.shards = shards;
+        this.pool = pool;
+    }
+
+    /**
+     * Plays the given number of sessions, and merges the statistics of all shards.
+     *
+     * @param sessions        the number of sessions to play
+     * @param rollsPerSession the maximum number of throws in a session; a session ends earlier if the
+     *                        {@link Player} stops playing
+     * @param seed            the master seed
+     * @return the statistics of all sessions
+     */
+    public SimulationResult run(long sessions, int rollsPerSession, long seed) {
+        return run(sessions, rollsPerSession, seed, (shardResult, shard) -> {
+        });
+    }
+
+    /**
+     * Plays the given number of sessions, passing the statistics of each shard to the listener as soon as the shard
+     * completes, and merges the statistics of all shards. The listener is called on the calling thread, in the order
+     * the shards complete; the merged statistics are still combined in shard order, so they are reproducible.
+     *
+     * @param sessions        the number of sessions to play
+     * @param rollsPerSession the maximum number of throws in a session; a session ends earlier if the
+     *                        {@link Player} stops playing
+     * @param seed            the master seed
+     * @param shardListener   called with the statistics and the index of each completed shard
+     * @return the statistics of all sessions
+     */
+    public SimulationResult run(long sessions, int rollsPerSession, long seed,
+                                ObjIntConsumer<SimulationResult> shardListener) {
+        RandomSource master = RandomSource.seeded(seed);
+        CompletionService<Pair<Integer, SimulationResult>> completion = new ExecutorCompletionService<>(pool);
+        List<Future<Pair<Integer, SimulationResult>>> futures = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int index = shard;
+            long shardSessions = sessions / shards + (shard < sessions % shards ? 1 : 0);
+            RandomSource rng = master.split();
+            futures.add(completion.submit(() -> Pair.of(index, runShard(shardSessions, rollsPerSession, rng))));
+        }
+
+        SimulationResult[] results = new SimulationResult[shards];
+        try {
+            for (int i = 0; i < shards; i++) {
+                Pair<Integer, SimulationResult> done = completion.take().get();
+                results[done.getLeft()] = done.getRight();
+                shardListener.accept(done.getRight(), done.getLeft());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shard", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A shard of the simulation failed", e.getCause());
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        SimulationResult result = new SimulationResult();
+        for (SimulationResult shardResult : results) {
+            result.merge(shardResult);
+        }
+        return result;
+    }
+
+    /**
+     * Plays one shard of sessions with its own {@link Dice}, {@link Game} and {@link Table}.
+     *
+     * @param sessions        the number of sessions in this shard
+     * @param rollsPerSession the maximum number of throws in a session
+     * @param rng             the random number stream of this shard
+     * @return the statistics of this shard
+     */
+    protected SimulationResult runShard(long sessions, int rollsPerSession, RandomSource rng) {
+        Dice dice = Dice.standard(rng);
+        SimulationResult result = new SimulationResult();
+        Session session = new Session(dice, result);
+
+        int[] batch = new int[Math.min(rollsPerSession, BATCH_SIZE)];
+
+        for (long played = 0; played < sessions; played++) {
+            session.start(strategy);
+            int roll = 0;
+            while (roll < rollsPerSession && session.playing()) {
+                int count = Math.min(batch.length, rollsPerSession - roll);
+                dice.nextBatch(batch, count);
+                for (int i = 0; i < count && session.playing(); i++, roll++) {
+                    session.roll(batch[i]);
+                }
+            }
+            session.finish();
+        }
+        return result;
+    }
+}
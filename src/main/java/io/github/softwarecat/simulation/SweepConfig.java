@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Money;
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link SweepConfig} is one combination of the parameters of a {@link PassLinePlayer} in a {@link SweepEngine}: the
+ * base bet, the odds multiple, the stop-loss and the win goal. Amounts are in the fixed-point units of {@link Money}.
+ */
+public final class SweepConfig implements Supplier<Player> {
+
+    /**
+     * The starting stake.
+     */
+    public final long stake;
+
+    /**
+     * The amount of every Pass Line bet.
+     */
+    public final long baseBet;
+
+    /**
+     * The odds bet as a multiple of the Pass Line bet, or zero for no odds.
+     */
+    public final int oddsMultiple;
+
+    /**
+     * The loss at which the {@link Player} stops, or zero to play on.
+     */
+    public final long stopLoss;
+
+    /**
+     * The win at which the {@link Player} stops, or zero to play on.
+     */
+    public final long winGoal;
+
+    /**
+     * Creates this {@link SweepConfig}.
+     *
+     * @param stake        the starting stake
+     * @param baseBet      the amount of every Pass Line bet
+     * @param oddsMultiple the odds bet as a multiple of the Pass Line bet, or zero for no odds
+     * @param stopLoss     the loss at which the {@link Player} stops, or zero to play on
+     * @param winGoal      the win at which the {@link Player} stops, or zero to play on
+     */
+    public SweepConfig(long stake, long baseBet, int oddsMultiple, long stopLoss, long winGoal) {
+        if (stake <= 0 || baseBet <= 0) {
+            throw new IllegalArgumentException("The stake and the base bet must be positive");
+        }
+        if (oddsMultiple < 0 || stopLoss < 0 || winGoal < 0) {
+            throw new IllegalArgumentException("The odds multiple and the limits cannot be negative");
+        }
+        this.stake = stake;
+        this.baseBet = baseBet;
+        this.oddsMultiple = oddsMultiple;
+        this.stopLoss = stopLoss;
+        this.winGoal = winGoal;
+    }
+
+    /**
+     * Returns every combination of the given parameters, varying the win goal fastest and the base bet slowest.
+     *
+     * @param stake         the starting stake of every combination
+     * @param baseBets      the base bets
+     * @param oddsMultiples the odds multiples
+     * @param stopLosses    the stop-losses
+     * @param winGoals      the win goals
+     * @return the combinations
+     */
+    public static List<SweepConfig> grid(long stake, long[] baseBets, int[] oddsMultiples, long[] stopLosses,
+                                         long[] winGoals) {
+        List<SweepConfig> grid = new ArrayList<>(
+                baseBets.length * oddsMultiples.length * stopLosses.length * winGoals.length);
+        for (long baseBet : baseBets) {
+            for (int oddsMultiple : oddsMultiples) {
+                for (long stopLoss : stopLosses) {
+                    for (long winGoal : winGoals) {
+                        grid.add(new SweepConfig(stake, baseBet, oddsMultiple, stopLoss, winGoal));
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Creates a fresh {@link PassLinePlayer} with these parameters.
+     *
+     * @return the {@link Player}
+     */
+    @Override
+    public Player get() {
+        Player player = new PassLinePlayer(stake, baseBet, oddsMultiple);
+        player.setLimits(stopLoss, winGoal);
+        return player;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("bet %s, odds %dx, stop-loss %s, win goal %s", Money.toDouble(baseBet), oddsMultiple,
+                Money.toDouble(stopLoss), Money.toDouble(winGoal));
+    }
+}
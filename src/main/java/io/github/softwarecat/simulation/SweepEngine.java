@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * {@link SweepEngine} evaluates many configurations of a betting strategy with common random numbers: the rolls are
+ * generated once, as a fixed set of streams, and every configuration plays one session on each stream.
+ * <p>
+ * Generating the dice once saves their cost for all but the first configuration, and since every configuration sees
+ * exactly the same rolls, the differences between configurations are due to the strategies alone rather than to luck.
+ * Comparing two configurations stream by stream with {@link SweepResult#difference(SweepResult)} needs far fewer
+ * sessions than comparing two independent runs.
+ * <p>
+ * Each stream is stored as one byte per roll, the dense index of {@link Dice#index(int, int)}, so a sweep over
+ * {@code streams} sessions of {@code rollsPerStream} rolls holds {@code streams * rollsPerStream} bytes. The
+ * configurations run in parallel; the streams are only read, so they are shared without locking.
+ */
+public class SweepEngine {
+
+    /**
+     * The pre-generated rolls, as dense indexes, one array per stream.
+     */
+    protected final byte[][] streams;
+
+    /**
+     * The number of rolls in each stream.
+     */
+    protected final int rollsPerStream;
+
+    /**
+     * Maps the dense indexes to the shared standard {@link Throw}s.
+     */
+    protected final Dice dice = Dice.standard();
+
+    /**
+     * The pool running the configurations.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Creates a {@link SweepEngine} running on the common {@link ForkJoinPool}.
+     *
+     * @param streams        the number of roll streams, which is the number of sessions of each configuration
+     * @param rollsPerStream the number of rolls in each stream, the longest a session can be
+     * @param seed           the master seed of the streams
+     */
+    public SweepEngine(int streams, int rollsPerStream, long seed) {
+        this(streams, rollsPerStream, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link SweepEngine}, generating its roll streams.
+     *
+     * @param streams        the number of roll streams, which is the number of sessions of each configuration
+     * @param rollsPerStream the number of rolls in each stream, the longest a session can be
+     * @param seed           the master seed of the streams
+     * @param pool           the pool running the configurations
+     */
+    public SweepEngine(int streams, int rollsPerStream, long seed, ForkJoinPool pool) {
+        if (streams < 1 || rollsPerStream < 1) {
+            throw new IllegalArgumentException("A sweep needs at least one stream of at least one roll");
+        }
+        this.rollsPerStream = rollsPerStream;
+        this.pool = pool;
+        this.streams = new byte[streams][];
+
+        RandomSource master = RandomSource.seeded(seed);
+        int[] batch = new int[Math.min(rollsPerStream, Simulator.BATCH_SIZE)];
+        for (int stream = 0; stream < streams; stream++) {
+            Dice streamDice = Dice.standard(master.split());
+            byte[] rolls = new byte[rollsPerStream];
+            for (int roll = 0; roll < rollsPerStream; roll += batch.length) {
+                int count = Math.min(batch.length, rollsPerStream - roll);
+                streamDice.nextBatch(batch, count);
+                for (int i = 0; i < count; i++) {
+                    rolls[roll + i] = (byte) batch[i];
+                }
+            }
+            this.streams[stream] = rolls;
+        }
+    }
+
+    /**
+     * Plays every configuration on every stream.
+     *
+     * @param configs the configurations, each creating a fresh {@link Player} for every session
+     * @return the results, in the order of the configurations
+     */
+    public List<SweepResult> run(List<? extends Supplier<? extends Player>> configs) {
+        List<Callable<SweepResult>> tasks = new ArrayList<>(configs.size());
+        for (Supplier<? extends Player> config : configs) {
+            tasks.add(() -> play(config));
+        }
+
+        List<SweepResult> results = new ArrayList<>(configs.size());
+        for (Future<SweepResult> future : pool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a configuration", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A configuration of the sweep failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Plays one configuration on every stream.
+     *
+     * @param config creates a fresh {@link Player} for every session
+     * @return the result of the configuration
+     */
+    protected SweepResult play(Supplier<? extends Player> config) {
+        SimulationResult result = new SimulationResult();
+        Session session = new Session(dice, result);
+        long[] finalBankrolls = new long[streams.length];
+
+        for (int stream = 0; stream < streams.length; stream++) {
+            byte[] rolls = streams[stream];
+            session.start(config);
+            for (int roll = 0; roll < rolls.length && session.playing(); roll++) {
+                session.roll(rolls[roll]);
+            }
+            finalBankrolls[stream] = session.finish();
+        }
+        return new SweepResult(config, result, finalBankrolls);
+    }
+
+    /**
+     * Gets the number of roll streams, which is the number of sessions of each configuration.
+     *
+     * @return the number of streams
+     */
+    public int getStreamCount() {
+        return streams.length;
+    }
+
+    /**
+     * Gets the number of rolls in each stream.
+     *
+     * @return the number of rolls
+     */
+    public int getRollsPerStream() {
+        return rollsPerStream;
+    }
+}
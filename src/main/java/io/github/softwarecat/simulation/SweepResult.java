@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.player.Player;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link SweepResult} holds the outcome of one configuration of a {@link SweepEngine}: the statistics of all its
+ * sessions, and the final bankroll of the session on each roll stream. Because every configuration plays the same
+ * streams, two {@link SweepResult}s can be compared stream by stream with
+ * {@link SweepResult#difference(SweepResult)}.
+ */
+public class SweepResult {
+
+    /**
+     * The configuration.
+     */
+    protected final Supplier<? extends Player> config;
+
+    /**
+     * The statistics of all sessions.
+     */
+    protected final SimulationResult result;
+
+    /**
+     * The final bankroll of the session on each roll stream.
+     */
+    protected final long[] finalBankrolls;
+
+    /**
+     * Creates this {@link SweepResult}.
+     *
+     * @param config         the configuration
+     * @param result         the statistics of all sessions
+     * @param finalBankrolls the final bankroll of the session on each roll stream; not copied
+     */
+    public SweepResult(Supplier<? extends Player> config, SimulationResult result, long[] finalBankrolls) {
+        this.config = config;
+        this.result = result;
+        this.finalBankrolls = finalBankrolls;
+    }
+
+    /**
+     * Returns the statistics of the difference in final bankroll between this configuration and another, paired by
+     * roll stream. With common random numbers this difference has a much smaller variance than the difference of two
+     * independent runs, so fewer streams tell two configurations apart.
+     *
+     * @param other the configuration to compare with, played on the same streams
+     * @return the statistics of this final bankroll minus the other, per stream
+     */
+    public RunningStatistics difference(SweepResult other) {
+        if (other.finalBankrolls.length != finalBankrolls.length) {
+            throw new IllegalArgumentException("The results were not played on the same streams");
+        }
+        RunningStatistics difference = new RunningStatistics();
+        for (int stream = 0; stream < finalBankrolls.length; stream++) {
+            difference.add(finalBankrolls[stream] - other.finalBankrolls[stream]);
+        }
+        return difference;
+    }
+
+    /**
+     * Gets the configuration.
+     *
+     * @return the configuration
+     */
+    public Supplier<? extends Player> getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the statistics of all sessions.
+     *
+     * @return the statistics
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the final bankroll of the session on one roll stream.
+     *
+     * @param stream the index of the stream
+     * @return the final bankroll
+     */
+    public long getFinalBankroll(int stream) {
+        return finalBankrolls[stream];
+    }
+
+    @Override
+    public String toString() {
+        return config + ": " + result;
+    }
+}
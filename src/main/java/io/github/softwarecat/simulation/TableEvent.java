@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+/**
+ * {@link TableEvent} reports the progress of one table of a {@link FloorScheduler}. A table publishes an event after
+ * every step it plays, and a final one when it is finished.
+ */
+public final class TableEvent {
+
+    /**
+     * The index of the table on the floor.
+     */
+    public final int table;
+
+    /**
+     * The number of throws played at the table so far.
+     */
+    public final int rolls;
+
+    /**
+     * The bankrolls of the players at the table, indexed by seat.
+     */
+    private final long[] bankrolls;
+
+    /**
+     * True if this is the last event of the table.
+     */
+    public final boolean finished;
+
+    /**
+     * Creates this {@link TableEvent}.
+     *
+     * @param table     the index of the table
+     * @param rolls     the number of throws played so far
+     * @param bankrolls the bankrolls of the players, indexed by seat; not copied
+     * @param finished  true if this is the last event of the table
+     */
+    TableEvent(int table, int rolls, long[] bankrolls, boolean finished) {
+        this.table = table;
+        this.rolls = rolls;
+        this.bankrolls = bankrolls;
+        this.finished = finished;
+    }
+
+    /**
+     * Gets the bankroll of the player in the given seat.
+     *
+     * @param seat the seat
+     * @return the bankroll
+     */
+    public long getBankroll(int seat) {
+        return bankrolls[seat];
+    }
+
+    /**
+     * Gets the number of players at the table.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return bankrolls.length;
+    }
+
+    @Override
+    public String toString() {
+        return "Table " + table + ": " + rolls + " rolls" + (finished ? ", finished" : "");
+    }
+}
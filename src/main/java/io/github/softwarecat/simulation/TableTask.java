@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.table.Table;
+
+/**
+ * {@link TableTask} is the {@link Game} loop of one {@link Table} of a {@link FloorScheduler}, written as a cooperative
+ * task: each call to {@link TableTask#step(int)} plays a bounded number of throws and returns, so a few carrier
+ * threads can take turns running thousands of tables.
+ */
+class TableTask {
+
+    /**
+     * The index of the {@link Table} on the floor.
+     */
+    final int index;
+
+    /**
+     * The {@link Player}s seated at the {@link Table}, indexed by seat.
+     */
+    final Player[] players;
+
+    private final Dice dice;
+
+    private final Game game;
+
+    private final int maxRolls;
+
+    private final int[] batch;
+
+    private int rolls;
+
+    /**
+     * Creates this {@link TableTask} and seats its {@link Player}s.
+     *
+     * @param index    the index of the {@link Table} on the floor
+     * @param players  the {@link Player}s to seat
+     * @param rng      the random number stream of the {@link Table}
+     * @param maxRolls the maximum number of throws at the {@link Table}
+     * @param quantum  the largest number of throws of one step
+     */
+    TableTask(int index, Player[] players, RandomSource rng, int maxRolls, int quantum) {
+        this.index = index;
+        this.players = players;
+        this.maxRolls = maxRolls;
+        Table table = new Table();
+        for (Player player : players) {
+            table.join(player);
+        }
+        dice = Dice.standard(rng);
+        game = new Game(table);
+        batch = new int[Math.min(quantum, Math.max(maxRolls, 1))];
+    }
+
+    /**
+     * Plays up to the given number of throws.
+     *
+     * @param quantum the largest number of throws to play
+     * @return true if the {@link Table} is finished, because it reached its maximum number of throws or nobody is
+     * playing any more
+     */
+    boolean step(int quantum) {
+        int count = Math.min(Math.min(quantum, batch.length), maxRolls - rolls);
+        if (count <= 0 || !anyPlaying()) {
+            return true;
+        }
+        dice.nextBatch(batch, count);
+        for (int i = 0; i < count; i++) {
+            int point = game.getPoint();
+            for (Player player : players) {
+                if (player.playing()) {
+                    player.beforeRoll(point);
+                }
+            }
+            Throw diceThrow = dice.throwAt(batch[i]);
+            game.roll(diceThrow);
+            rolls++;
+            if (!anyPlaying()) {
+                return true;
+            }
+        }
+        return rolls >= maxRolls;
+    }
+
+    private boolean anyPlaying() {
+        for (Player player : players) {
+            if (player.playing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of throws played so far.
+     *
+     * @return the number of throws
+     */
+    int getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Returns the current bankrolls of the {@link Player}s, indexed by seat.
+     *
+     * @return a new array of bankrolls
+     */
+    long[] bankrolls() {
+        long[] bankrolls = new long[players.length];
+        for (int seat = 0; seat < players.length; seat++) {
+            bankrolls[seat] = players[seat].getBankroll();
+        }
+        return bankrolls;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.table;
+
+import io.github.softwarecat.Outcome;
+
+/**
+ * {@link Bet} is a snapshot of one active bet on a {@link Table}. The {@link Table} itself keeps its bets in
+ * parallel arrays; a {@link Bet} is only created when a caller asks for one.
+ */
+public final class Bet {
+
+    /**
+     * The {@link Outcome} the bet is on.
+     */
+    public final Outcome outcome;
+
+    /**
+     * The amount of the bet, in the fixed-point units of {@link io.github.softwarecat.Money}.
+     */
+    public final long amount;
+
+    /**
+     * The seat of the {@link io.github.softwarecat.player.Player} who owns the bet.
+     */
+    public final int seat;
+
+    /**
+     * Creates this {@link Bet}.
+     *
+     * @param outcome the {@link Outcome} the bet is on
+     * @param amount  the amount of the bet
+     * @param seat    the seat of the owner
+     */
+    public Bet(Outcome outcome, long amount, int seat) {
+        this.outcome = outcome;
+        this.amount = amount;
+        this.seat = seat;
+    }
+
+    @Override
+    public String toString() {
+        return outcome.getName() + " " + amount + " (seat " + seat + ")";
+    }
+}
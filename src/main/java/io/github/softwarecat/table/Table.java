@@ -0,0 +1,512 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.table;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.GameListener;
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.metrics.Metrics;
+import io.github.softwarecat.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Table} holds the active bets of the {@link Player}s seated at one {@link Game}, and settles them after every
+ * throw.
+ * <p>
+ * The bets are kept in parallel primitive arrays indexed by slot: the {@link Outcome} id, the amount, and the seat of
+ * the owner. Slots of settled bets go on a free list and are reused, so a long session does not allocate after the
+ * arrays have grown to the largest number of bets on the table at once. The slot returned by
+ * {@link Table#placeBet(Outcome, long, int)} is the handle a {@link Player} uses to press or remove its bet.
+ * <p>
+ * The {@link Table} is the {@link GameListener} of its {@link Game}. After each throw it settles every bet in a single
+ * pass, then passes the throw on to the seated {@link Player}s. One-roll propositions are resolved against the winning
+ * mask of the {@link Throw}; the multi-roll bets of {@link TableOutcomes} are resolved by the event of the throw.
+ */
+public class Table implements GameListener {
+
+    /**
+     * The initial number of bet slots and seats.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The {@link Outcome} id of the bet in each slot.
+     */
+    protected int[] outcomeIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * The amount of the bet in each slot, or zero for a free slot.
+     */
+    protected long[] amounts = new long[INITIAL_CAPACITY];
+
+    /**
+     * The seat of the owner of the bet in each slot.
+     */
+    protected int[] owners = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of slots ever used; every active bet has a slot below this.
+     */
+    protected int slotCount;
+
+    /**
+     * The stack of free slots below {@link Table#slotCount}.
+     */
+    protected int[] freeSlots = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of slots on the free list.
+     */
+    protected int freeCount;
+
+    /**
+     * The seated {@link Player}s, indexed by seat.
+     */
+    protected Player[] players = new Player[INITIAL_CAPACITY];
+
+    /**
+     * The total amount each seat has on the table.
+     */
+    protected long[] onTable = new long[INITIAL_CAPACITY];
+
+    /**
+     * The number of seated {@link Player}s.
+     */
+    protected int playerCount;
+
+    /**
+     * The current point, or zero while the point is off.
+     */
+    protected int point;
+
+    /**
+     * The winnings recorded for a losing bet.
+     */
+    private static final long LOST = -1;
+
+    /**
+     * The seat of the owner of each bet settled by the current throw.
+     */
+    private int[] settledSeats = new int[INITIAL_CAPACITY];
+
+    /**
+     * The amount returned to the owner of each bet settled by the current throw, or the amount lost.
+     */
+    private long[] settledAmounts = new long[INITIAL_CAPACITY];
+
+    /**
+     * The winnings of each bet settled by the current throw, or {@link Table#LOST}.
+     */
+    private long[] settledWinnings = new long[INITIAL_CAPACITY];
+
+    /**
+     * The number of bets settled by the current throw.
+     */
+    private int settledCount;
+
+    /**
+     * Seats a {@link Player} at this {@link Table}.
+     *
+     * @param player the {@link Player} to seat
+     * @return the seat of the {@link Player}
+     */
+    public int join(Player player) {
+        if (playerCount == players.length) {
+            players = Arrays.copyOf(players, playerCount * 2);
+            onTable = Arrays.copyOf(onTable, playerCount * 2);
+        }
+        int seat = playerCount++;
+        players[seat] = player;
+        player.seat(this, seat);
+        return seat;
+    }
+
+    /**
+     * Places a bet for the {@link Player} in the given seat. The {@link Player} has already taken the amount from its
+     * stake.
+     *
+     * @param outcome the {@link Outcome} to bet on
+     * @param amount  the amount of the bet
+     * @param seat    the seat of the owner
+     * @return the slot of the bet
+     * @throws IllegalStateException if the bet cannot be placed at this point of the game
+     */
+    public int placeBet(Outcome outcome, long amount, int seat) {
+        checkSeat(seat);
+        if (amount <= 0) {
+            throw new IllegalArgumentException("A bet must be positive");
+        }
+        int id = outcome.getId();
+        switch (TableOutcomes.kind(id)) {
+            case TableOutcomes.PASS_LINE_BET:
+            case TableOutcomes.DONT_PASS_BET:
+                if (point != 0) {
+                    throw new IllegalStateException(outcome.getName() + " can only be bet on a come out roll");
+                }
+                break;
+            case TableOutcomes.PASS_ODDS_BET:
+                if (point != TableOutcomes.number(id)) {
+                    throw new IllegalStateException(outcome.getName() + " can only be bet while its point is on");
+                }
+                break;
+            default:
+                break;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == amounts.length) {
+                grow();
+            }
+            slot = slotCount++;
+        }
+        outcomeIds[slot] = id;
+        amounts[slot] = amount;
+        owners[slot] = seat;
+        onTable[seat] += amount;
+        if (Metrics.ENABLED) {
+            Metrics.betPlaced(id);
+        }
+        return slot;
+    }
+
+    /**
+     * Adds to an active bet. The {@link Player} has already taken the amount from its stake.
+     *
+     * @param slot   the slot of the bet
+     * @param amount the amount to add
+     * @param seat   the seat of the owner
+     * @throws IllegalStateException if a Pass Line bet is pressed while the point is on
+     */
+    public void press(int slot, long amount, int seat) {
+        checkOwner(slot, seat);
+        if (amount <= 0) {
+            throw new IllegalArgumentException("A bet can only be pressed by a positive amount");
+        }
+        checkContract(slot);
+        amounts[slot] += amount;
+        onTable[seat] += amount;
+    }
+
+    /**
+     * Takes down an active bet.
+     *
+     * @param slot the slot of the bet
+     * @param seat the seat of the owner
+     * @return the amount of the bet, for the {@link Player} to return to its stake
+     * @throws IllegalStateException if a Pass Line bet is removed while the point is on
+     */
+    public long removeBet(int slot, int seat) {
+        checkOwner(slot, seat);
+        checkContract(slot);
+        long amount = amounts[slot];
+        free(slot);
+        return amount;
+    }
+
+    /**
+     * Settles every bet on the throw, then passes it on to the seated {@link Player}s.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @param event     the event of the throw, one of the event constants of {@link Game}
+     * @param point     the point when the dice were thrown, or zero for a come out roll
+     */
+    @Override
+    public void rolled(Throw diceThrow, int event, int point) {
+        if (Metrics.ENABLED) {
+            long start = System.nanoTime();
+            settle(diceThrow, event, point);
+            Metrics.settled(System.nanoTime() - start);
+        } else {
+            settle(diceThrow, event, point);
+        }
+        for (int seat = 0; seat < playerCount; seat++) {
+            players[seat].rolled(diceThrow, event, point);
+        }
+    }
+
+    /**
+     * Settles every bet on the throw in a single pass over the slots. The owners are paid once every bet is settled
+     * and the point is updated, so a {@link Player} that bets from {@link Player#win(long, long)} or
+     * {@link Player#lose(long)} sees the new point, and its bets are not settled on this throw.
+     *
+     * @param diceThrow the {@link Throw} of the dice
+     * @param event     the event of the throw, one of the event constants of {@link Game}
+     * @param point     the point when the dice were thrown, or zero for a come out roll
+     */
+    public void settle(Throw diceThrow, int event, int point) {
+        long mask = diceThrow.winningMask();
+        int sum = diceThrow.getSum();
+        boolean decision = event == Game.COME_OUT_WIN || event == Game.COME_OUT_CRAPS
+                || event == Game.POINT_MADE || event == Game.SEVEN_OUT;
+        boolean passWins = event == Game.COME_OUT_WIN || event == Game.POINT_MADE;
+
+        settledCount = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (amounts[slot] == 0) {
+                continue;
+            }
+            int id = outcomeIds[slot];
+            switch (TableOutcomes.kind(id)) {
+                case TableOutcomes.PASS_LINE_BET:
+                    if (decision) {
+                        resolve(slot, passWins);
+                    }
+                    break;
+                case TableOutcomes.DONT_PASS_BET:
+                    if (event == Game.COME_OUT_CRAPS && sum == 12) {
+                        push(slot);
+                    } else if (decision) {
+                        resolve(slot, !passWins);
+                    }
+                    break;
+                case TableOutcomes.PASS_ODDS_BET:
+                    if (event == Game.POINT_MADE || event == Game.SEVEN_OUT) {
+                        resolve(slot, event == Game.POINT_MADE);
+                    }
+                    break;
+                case TableOutcomes.PLACE_BET:
+                    if (point == 0) {
+                        break;
+                    }
+                    if (sum == TableOutcomes.number(id)) {
+                        pay(slot);
+                    } else if (sum == 7) {
+                        lose(slot);
+                    }
+                    break;
+                default:
+                    if (id < Throw.MASK_BITS ? (mask >>> id & 1L) != 0 : diceThrow.wins(id)) {
+                        resolve(slot, true);
+                    } else {
+                        lose(slot);
+                    }
+                    break;
+            }
+        }
+        this.point = Game.nextPoint(point, sum);
+
+        for (int i = 0; i < settledCount; i++) {
+            Player player = players[settledSeats[i]];
+            if (settledWinnings[i] == LOST) {
+                player.lose(settledAmounts[i]);
+            } else {
+                player.win(settledAmounts[i], settledWinnings[i]);
+            }
+        }
+    }
+
+    /**
+     * Pays a winning bet and returns it to its owner, or collects a losing bet.
+     *
+     * @param slot the slot of the bet
+     * @param won  true if the bet won
+     */
+    private void resolve(int slot, boolean won) {
+        if (!won) {
+            lose(slot);
+            return;
+        }
+        long amount = amounts[slot];
+        int seat = owners[slot];
+        long winnings = Outcome.forId(outcomeIds[slot]).winUnits(amount);
+        settled(slot, seat, amount, winnings);
+        free(slot);
+    }
+
+    /**
+     * Pays a winning bet that stays working on the table.
+     *
+     * @param slot the slot of the bet
+     */
+    private void pay(int slot) {
+        settled(slot, owners[slot], 0, Outcome.forId(outcomeIds[slot]).winUnits(amounts[slot]));
+    }
+
+    /**
+     * Collects a losing bet.
+     *
+     * @param slot the slot of the bet
+     */
+    private void lose(int slot) {
+        long amount = amounts[slot];
+        int seat = owners[slot];
+        settled(slot, seat, amount, LOST);
+        free(slot);
+    }
+
+    /**
+     * Returns a bet to its owner without a decision.
+     *
+     * @param slot the slot of the bet
+     */
+    private void push(int slot) {
+        long amount = amounts[slot];
+        int seat = owners[slot];
+        settled(slot, seat, amount, 0);
+        free(slot);
+    }
+
+    /**
+     * Records a settled bet, to be passed to its owner once every bet on the throw is settled.
+     *
+     * @param slot     the slot of the bet
+     * @param seat     the seat of the owner
+     * @param amount   the amount returned to the owner, or the amount lost
+     * @param winnings the amount won, or {@link Table#LOST}
+     */
+    private void settled(int slot, int seat, long amount, long winnings) {
+        if (Metrics.ENABLED) {
+            Metrics.betSettled(outcomeIds[slot]);
+        }
+        settledSeats[settledCount] = seat;
+        settledAmounts[settledCount] = amount;
+        settledWinnings[settledCount] = winnings;
+        settledCount++;
+    }
+
+    private void free(int slot) {
+        onTable[owners[slot]] -= amounts[slot];
+        amounts[slot] = 0;
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow() {
+        int capacity = amounts.length * 2;
+        outcomeIds = Arrays.copyOf(outcomeIds, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        settledSeats = Arrays.copyOf(settledSeats, capacity);
+        settledAmounts = Arrays.copyOf(settledAmounts, capacity);
+        settledWinnings = Arrays.copyOf(settledWinnings, capacity);
+    }
+
+    private void checkSeat(int seat) {
+        if (seat < 0 || seat >= playerCount) {
+            throw new IllegalArgumentException("No player in seat " + seat);
+        }
+    }
+
+    private void checkOwner(int slot, int seat) {
+        checkSeat(seat);
+        if (slot < 0 || slot >= slotCount || amounts[slot] == 0 || owners[slot] != seat) {
+            throw new IllegalArgumentException("No active bet of seat " + seat + " in slot " + slot);
+        }
+    }
+
+    private void checkContract(int slot) {
+        if (point != 0 && TableOutcomes.kind(outcomeIds[slot]) == TableOutcomes.PASS_LINE_BET) {
+            throw new IllegalStateException("A Pass Line bet cannot be changed while the point is on");
+        }
+    }
+
+    /**
+     * Takes every bet off the table and unseats every {@link Player}, so this {@link Table} can be reused for another
+     * session. Bets on the table are not returned to their owners.
+     */
+    public void reset() {
+        Arrays.fill(amounts, 0, slotCount, 0);
+        Arrays.fill(players, 0, playerCount, null);
+        Arrays.fill(onTable, 0, playerCount, 0);
+        slotCount = 0;
+        freeCount = 0;
+        playerCount = 0;
+        point = 0;
+    }
+
+    /**
+     * Returns the active bet in the given slot.
+     *
+     * @param slot the slot of the bet
+     * @return a snapshot of the bet, or null if the slot is free
+     */
+    public Bet getBet(int slot) {
+        if (slot < 0 || slot >= slotCount || amounts[slot] == 0) {
+            return null;
+        }
+        return new Bet(Outcome.forId(outcomeIds[slot]), amounts[slot], owners[slot]);
+    }
+
+    /**
+     * Returns all active bets, in slot order.
+     *
+     * @return snapshots of the active bets
+     */
+    public List<Bet> getBets() {
+        List<Bet> bets = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (amounts[slot] != 0) {
+                bets.add(new Bet(Outcome.forId(outcomeIds[slot]), amounts[slot], owners[slot]));
+            }
+        }
+        return Collections.unmodifiableList(bets);
+    }
+
+    /**
+     * Gets the number of active bets.
+     *
+     * @return the number of active bets
+     */
+    public int getBetCount() {
+        return slotCount - freeCount;
+    }
+
+    /**
+     * Gets the total amount the given seat has on the table.
+     *
+     * @param seat the seat
+     * @return the amount on the table
+     */
+    public long getAmountOnTable(int seat) {
+        checkSeat(seat);
+        return onTable[seat];
+    }
+
+    /**
+     * Gets the number of seated {@link Player}s.
+     *
+     * @return the number of seated {@link Player}s
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Gets the current point.
+     *
+     * @return the point, or zero while the point is off
+     */
+    public int getPoint() {
+        return point;
+    }
+}
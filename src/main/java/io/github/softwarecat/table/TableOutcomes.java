@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.table;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.Outcome;
+
+/**
+ * {@link TableOutcomes} holds the multi-roll {@link Outcome}s of a Craps layout, and how a {@link Table} resolves
+ * them. Any other {@link Outcome} is a one-roll proposition, which wins when it is one of the winning {@link Outcome}s
+ * of the {@link io.github.softwarecat.dice.Throw} and loses otherwise.
+ */
+public final class TableOutcomes {
+
+    /**
+     * A one-roll proposition.
+     */
+    static final byte ONE_ROLL = 0;
+
+    /**
+     * The Pass Line.
+     */
+    static final byte PASS_LINE_BET = 1;
+
+    /**
+     * The Don't Pass bar 12.
+     */
+    static final byte DONT_PASS_BET = 2;
+
+    /**
+     * Free odds behind the Pass Line, for one point.
+     */
+    static final byte PASS_ODDS_BET = 3;
+
+    /**
+     * A place bet on one number.
+     */
+    static final byte PLACE_BET = 4;
+
+    /**
+     * Wins on a come out 7 or 11 or when the point is made, pays even money.
+     */
+    public static final Outcome PASS_LINE = Outcome.of("Pass Line", 1);
+
+    /**
+     * Wins on a come out 2 or 3 or a seven out, pays even money. A come out 12 is a push.
+     */
+    public static final Outcome DONT_PASS = Outcome.of("Don't Pass", 1);
+
+    /**
+     * Free odds behind the Pass Line, indexed by point. Pays true odds when the point is made.
+     */
+    private static final Outcome[] PASS_ODDS = new Outcome[11];
+
+    /**
+     * Place bets, indexed by number. Win whenever the number is thrown, and lose on a 7, while the point is on.
+     */
+    private static final Outcome[] PLACE = new Outcome[11];
+
+    /**
+     * How each {@link Outcome} is resolved, indexed by {@link Outcome} id.
+     */
+    private static final byte[] KINDS;
+
+    /**
+     * The point or number of each {@link Outcome}, indexed by {@link Outcome} id.
+     */
+    private static final byte[] NUMBERS;
+
+    static {
+        PASS_ODDS[4] = Outcome.of("Pass Odds 4", 2);
+        PASS_ODDS[5] = Outcome.of("Pass Odds 5", 3, 2);
+        PASS_ODDS[6] = Outcome.of("Pass Odds 6", 6, 5);
+        PASS_ODDS[8] = Outcome.of("Pass Odds 8", 6, 5);
+        PASS_ODDS[9] = Outcome.of("Pass Odds 9", 3, 2);
+        PASS_ODDS[10] = Outcome.of("Pass Odds 10", 2);
+
+        PLACE[4] = Outcome.of("Place 4", 9, 5);
+        PLACE[5] = Outcome.of("Place 5", 7, 5);
+        PLACE[6] = Outcome.of("Place 6", 7, 6);
+        PLACE[8] = Outcome.of("Place 8", 7, 6);
+        PLACE[9] = Outcome.of("Place 9", 7, 5);
+        PLACE[10] = Outcome.of("Place 10", 9, 5);
+
+        KINDS = new byte[Outcome.count()];
+        NUMBERS = new byte[KINDS.length];
+        KINDS[PASS_LINE.getId()] = PASS_LINE_BET;
+        KINDS[DONT_PASS.getId()] = DONT_PASS_BET;
+        for (int number = 4; number <= 10; number++) {
+            if (Game.isPoint(number)) {
+                KINDS[PASS_ODDS[number].getId()] = PASS_ODDS_BET;
+                NUMBERS[PASS_ODDS[number].getId()] = (byte) number;
+                KINDS[PLACE[number].getId()] = PLACE_BET;
+                NUMBERS[PLACE[number].getId()] = (byte) number;
+            }
+        }
+    }
+
+    private TableOutcomes() {
+    }
+
+    /**
+     * Returns the free odds {@link Outcome} behind the Pass Line for the given point.
+     *
+     * @param point the point, 4, 5, 6, 8, 9 or 10
+     * @return the odds {@link Outcome}
+     */
+    public static Outcome passOdds(int point) {
+        return checked(PASS_ODDS, point);
+    }
+
+    /**
+     * Returns the place bet {@link Outcome} for the given number.
+     *
+     * @param number the number, 4, 5, 6, 8, 9 or 10
+     * @return the place bet {@link Outcome}
+     */
+    public static Outcome place(int number) {
+        return checked(PLACE, number);
+    }
+
+    private static Outcome checked(Outcome[] outcomes, int number) {
+        if (!Game.isPoint(number)) {
+            throw new IllegalArgumentException(number + " is not one of the point numbers 4, 5, 6, 8, 9 or 10");
+        }
+        return outcomes[number];
+    }
+
+    /**
+     * Returns how the {@link Outcome} with the given id is resolved.
+     *
+     * @param id the {@link Outcome} id
+     * @return one of the bet kinds of {@link TableOutcomes}
+     */
+    static byte kind(int id) {
+        return id < KINDS.length ? KINDS[id] : ONE_ROLL;
+    }
+
+    /**
+     * Returns the point or number of the {@link Outcome} with the given id.
+     *
+     * @param id the {@link Outcome} id
+     * @return the number, or zero for {@link Outcome}s without one
+     */
+    static int number(int id) {
+        return id < NUMBERS.length ? NUMBERS[id] : 0;
+    }
+}
@@ -24,8 +24,19 @@
 
 package io.github.softwarecat;
 
+import io.github.softwarecat.simulation.ResultWriter;
+import io.github.softwarecat.simulation.SimulationResult;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -39,4 +50,142 @@ public class AppTest {
     public void shouldAnswerWithTrue() {
         assertTrue( true );
     }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    int run(String... args) {
+        return App.run(args, out, new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void csv() {
+        Assert.assertEquals(0, run("--sessions", "20", "--rolls=50", "--seed", "3", "--threads", "2", "--shards", "4"));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        Assert.assertEquals(6, lines.length);
+        Assert.assertTrue(lines[0].startsWith("shard,sessions,rolls,"));
+        Assert.assertTrue(lines[5].startsWith("total,20,"));
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains("rolls/s"));
+    }
+
+    @Test
+    public void json() {
+        Assert.assertEquals(0, run("--strategy", "fibonacci", "--sessions", "5", "--rolls", "20", "--shards", "1",
+                "--format", "json"));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        Assert.assertEquals(2, lines.length);
+        Assert.assertTrue(lines[0].startsWith("{\"shard\":0,\"sessions\":5,"));
+        Assert.assertTrue(lines[1].startsWith("{\"shard\":\"total\""));
+    }
+
+    @Test
+    public void binary() throws IOException {
+        Assert.assertEquals(0, run("--strategy", "martingale", "--sessions", "6", "--rolls", "10", "--shards", "3",
+                "--seed", "1", "--format", "binary"));
+
+        byte[] bytes = out.toByteArray();
+        Assert.assertEquals(4 * ResultWriter.BINARY_RECORD_SIZE, bytes.length);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes,
+                3 * ResultWriter.BINARY_RECORD_SIZE, ResultWriter.BINARY_RECORD_SIZE));
+        Assert.assertEquals(ResultWriter.TOTAL, in.readInt());
+        Assert.assertEquals(6, in.readLong());
+    }
+
+    @Test
+    public void moreShardsThanSessions() {
+        Assert.assertEquals(0, run("--sessions", "3", "--rolls", "20", "--seed", "2", "--shards", "8"));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        Assert.assertEquals(5, lines.length);
+        for (int i = 1; i < lines.length; i++) {
+            Assert.assertFalse(lines[i], lines[i].contains("E"));
+        }
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains("3 shards"));
+    }
+
+    @Test
+    public void emptyRecords() throws IOException {
+        SimulationResult empty = new SimulationResult();
+        for (String format : ResultWriter.FORMATS) {
+            out.reset();
+            try (ResultWriter writer = ResultWriter.of(format, out)) {
+                writer.write(0, empty);
+            }
+            String text = out.toString(StandardCharsets.UTF_8);
+            switch (format) {
+                case "csv":
+                    Assert.assertTrue(text, text.endsWith("0,0,0,,,,,,,," + System.lineSeparator()));
+                    break;
+                case "json":
+                    Assert.assertTrue(text, text.contains("\"sessions\":0,\"rolls\":0,\"meanStake\":null,"));
+                    Assert.assertTrue(text, text.contains("\"maxBankroll\":null}"));
+                    break;
+                default:
+                    DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+                    in.skipBytes(Integer.BYTES + 2 * Long.BYTES);
+                    for (int i = 0; i < 8; i++) {
+                        Assert.assertTrue(Double.isNaN(in.readDouble()));
+                    }
+            }
+        }
+    }
+
+    @Test
+    public void reproducible() {
+        run("--sessions", "50", "--rolls", "100", "--seed", "9", "--threads", "1", "--shards", "2");
+        String one = out.toString(StandardCharsets.UTF_8);
+        out.reset();
+        run("--sessions", "50", "--rolls", "100", "--seed", "9", "--threads", "4", "--shards", "2");
+        String four = out.toString(StandardCharsets.UTF_8);
+
+        Assert.assertEquals(one.substring(one.indexOf("total")), four.substring(four.indexOf("total")));
+    }
+
+    @Test
+    public void defaultShardsDoNotDependOnThreads() {
+        run("--sessions", "200", "--rolls", "50", "--seed", "4", "--threads", "1");
+        String one = out.toString(StandardCharsets.UTF_8);
+        out.reset();
+        run("--sessions", "200", "--rolls", "50", "--seed", "4", "--threads", "3");
+        String three = out.toString(StandardCharsets.UTF_8);
+
+        Assert.assertEquals(one.substring(one.indexOf("total")), three.substring(three.indexOf("total")));
+    }
+
+    @Test
+    public void writeErrors() {
+        OutputStream full = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("No space left on device");
+            }
+        };
+        for (String format : ResultWriter.FORMATS) {
+            err.reset();
+            int status = App.run(new String[]{"--sessions", "4", "--rolls", "10", "--format", format}, full,
+                    new PrintStream(err, true, StandardCharsets.UTF_8));
+
+            Assert.assertEquals(format, 1, status);
+            Assert.assertTrue(format, err.toString(StandardCharsets.UTF_8).contains("No space left on device"));
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        Assert.assertEquals(2, run("--strategy", "paroli"));
+        Assert.assertEquals(2, run("--format", "xml"));
+        Assert.assertEquals(2, run("--sessions", "many"));
+        Assert.assertEquals(2, run("--rolls"));
+        Assert.assertEquals(2, run("--verbose", "true"));
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage"));
+        Assert.assertEquals(0, out.size());
+    }
+
+    @Test
+    public void help() {
+        Assert.assertEquals(0, run("--help"));
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Usage"));
+    }
 }
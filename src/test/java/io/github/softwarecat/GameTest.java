@@ -24,6 +24,7 @@
 
 package io.github.softwarecat;
 
+import io.github.softwarecat.dice.*;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,30 +33,99 @@ public class GameTest {
 
     Game game;
 
+    int event;
+    int eventPoint;
+
     @Before
     public void setUp() {
-        game = new Game();
+        game = new Game((diceThrow, event, point) -> {
+            this.event = event;
+            this.eventPoint = point;
+        });
     }
 
     @Test
     public void craps() {
+        Assert.assertEquals(Game.COME_OUT_CRAPS, game.roll(new CrapsThrow(1, 1)));
+        Assert.assertEquals(0, game.getPoint());
+        Assert.assertEquals(Game.COME_OUT_CRAPS, game.roll(new CrapsThrow(6, 6)));
+
+        game.roll(new PointThrow(2, 2));
+        Assert.assertEquals(Game.NO_DECISION, game.roll(new CrapsThrow(1, 2)));
+        Assert.assertEquals(4, game.getPoint());
     }
 
     @Test
     public void natural() {
+        Assert.assertEquals(Game.COME_OUT_WIN, game.roll(new NaturalThrow(3, 4)));
+        Assert.assertEquals(0, game.getPoint());
+
+        game.roll(new PointThrow(4, 5));
+        Assert.assertEquals(Game.SEVEN_OUT, game.roll(new NaturalThrow(1, 6)));
+        Assert.assertEquals(Game.SEVEN_OUT, event);
+        Assert.assertEquals(9, eventPoint);
+        Assert.assertEquals(0, game.getPoint());
     }
 
     @Test
     public void eleven() {
+        Assert.assertEquals(Game.COME_OUT_WIN, game.roll(new ElevenThrow(5, 6)));
+        Assert.assertEquals(0, game.getPoint());
+
+        game.roll(new PointThrow(3, 3));
+        Assert.assertEquals(Game.NO_DECISION, game.roll(new ElevenThrow(6, 5)));
+        Assert.assertEquals(6, game.getPoint());
     }
 
     @Test
     public void point() {
-        Assert.assertEquals(0, game.point);
-        game.point(1);
-        Assert.assertEquals(1, game.point);
-        game.point(2);
-        Assert.assertEquals(1, game.point);
+        Assert.assertEquals(0, game.getPoint());
+        Assert.assertEquals(Game.POINT_ESTABLISHED, game.roll(new PointThrow(2, 2)));
+        Assert.assertEquals(0, eventPoint);
+        Assert.assertEquals(4, game.getPoint());
+        Assert.assertEquals(Game.NO_DECISION, game.roll(new PointThrow(2, 3)));
+        Assert.assertEquals(4, game.getPoint());
+        Assert.assertEquals(Game.POINT_MADE, game.roll(new PointThrow(1, 3)));
+        Assert.assertEquals(Game.POINT_MADE, event);
+        Assert.assertEquals(4, eventPoint);
+        Assert.assertEquals(0, game.getPoint());
+    }
+
+    @Test
+    public void transitions() {
+        for (int sum = 2; sum <= 12; sum++) {
+            Assert.assertEquals(Game.isPoint(sum) ? sum : 0, Game.nextPoint(0, sum));
+        }
+        Assert.assertEquals(Game.POINT_MADE, Game.event(10, 10));
+        Assert.assertEquals(Game.SEVEN_OUT, Game.event(10, 7));
+        Assert.assertEquals(Game.NO_DECISION, Game.event(10, 12));
+        Assert.assertEquals(10, Game.nextPoint(10, 12));
+    }
+
+    @Test
+    public void rollBatch() {
+        Dice dice = new Dice();
+        dice.addThrow(new PointThrow(2, 2));
+        dice.addThrow(new NaturalThrow(3, 4));
+        int[] batch = {Dice.index(2, 2), Dice.index(2, 2), Dice.index(2, 2), Dice.index(3, 4), Dice.index(2, 2)};
+
+        Assert.assertEquals(2, game.roll(dice, batch, 4));
+        Assert.assertEquals(Game.SEVEN_OUT, event);
+        Assert.assertEquals(0, game.getPoint());
+    }
+
+    @Test
+    public void reset() {
+        game.roll(new PointThrow(5, 5));
+        game.reset();
+        Assert.assertEquals(0, game.getPoint());
+    }
+
+    @Test
+    public void restore() {
+        game.restore(9);
+        Assert.assertEquals(Game.POINT_MADE, game.roll(new PointThrow(4, 5)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> game.restore(7));
     }
 
     @Test
@@ -64,4 +134,4 @@ public class GameTest {
         game.point = 1;
         Assert.assertEquals("1", game.toString());
     }
-}
\ No newline at end of file
+}
@@ -28,7 +28,11 @@ import org.apache.commons.lang3.math.Fraction;
 import org.junit.Before;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
 
 public class OutcomeTest {
 
@@ -50,6 +54,65 @@ public class OutcomeTest {
         assertEquals(Fraction.getFraction(2), outcome3.winAmount(Fraction.getFraction(3)));
     }
 
+    @Test
+    public void winAmountInt() {
+        assertEquals(Fraction.getFraction(2), outcome1.winAmount(2));
+        assertEquals(Fraction.getFraction(3, 2), outcome2.winAmount(3));
+        assertEquals(Fraction.getFraction(2), outcome3.winAmount(3));
+    }
+
+    @Test
+    public void winUnits() {
+        assertEquals(Money.of(2), outcome1.winUnits(Money.of(2)));
+        assertEquals(Money.of(3) / 2, outcome2.winUnits(Money.of(3)));
+        assertEquals(Money.of(7), new Outcome("Place 6", 7, 6).winUnits(Money.of(6)));
+        assertEquals(Money.of(6), new Outcome("Odds 5", 3, 2).winUnits(Money.of(4)));
+        assertEquals(Money.of(9) / 5, new Outcome("Odds 4", 9, 5).winUnits(Money.of(1)));
+        assertEquals(Money.of(7) / 6, new Outcome("Place 6", 14, 12).winUnits(Money.of(1)));
+    }
+
+    @Test
+    public void winUnitsCache() {
+        Outcome placeSix = new Outcome("Place 6", 7, 6);
+        assertSame(Outcome.of("Place 6", 7, 6).payouts, placeSix.payouts);
+        for (long amount : new long[]{0, Money.of(1), Money.of(Outcome.PAYOUT_CACHE_UNITS - 1),
+                Money.of(Outcome.PAYOUT_CACHE_UNITS), Money.of(1000), Money.of(6) + 1, 59, -Money.of(6)}) {
+            assertEquals(amount * 7 / 6, placeSix.winUnits(amount));
+        }
+    }
+
+    @Test
+    public void of() {
+        Outcome field = Outcome.of("Field", 1);
+
+        assertSame(field, Outcome.of("Field", 1));
+        assertSame(field, Outcome.of("Field", 2, 2));
+        assertSame(field, Outcome.of("Field", Fraction.ONE));
+        assertNotSame(field, Outcome.of("Field", 2));
+        assertNotSame(field, Outcome.of("Any Craps", 1));
+    }
+
+    @Test
+    public void forId() {
+        Outcome anyCraps = Outcome.of("Any Craps", 7);
+
+        assertSame(anyCraps, Outcome.forId(anyCraps.getId()));
+        assertEquals(anyCraps.getId(), new Outcome("Any Craps", 7).getId());
+        assertTrue(anyCraps.getId() < Outcome.count());
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(new Outcome("Field", 1), new Outcome("Field", 1));
+        assertEquals(new Outcome("Field", 1).hashCode(), new Outcome("Field", 1).hashCode());
+        assertEquals(new Outcome("Place 6", 7, 6), Outcome.of("Place 6", 14, 12));
+        assertNotEquals(new Outcome("Field", 1), new Outcome("Field", 2));
+        assertNotEquals(new Outcome("Field", 1), new Outcome("Pass Line", 1));
+
+        Set<Outcome> outcomes = new HashSet<>(Arrays.asList(new Outcome("Field", 1), new Outcome("Field", 1)));
+        assertEquals(1, outcomes.size());
+    }
+
     @Test
     public void testToString() {
         assertEquals("A (1:1)", outcome1.toString());
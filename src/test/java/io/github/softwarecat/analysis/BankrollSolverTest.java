@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.analysis;
+
+import io.github.softwarecat.dice.Dice;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class BankrollSolverTest {
+
+    @Test
+    public void oneComeOutRoll() {
+        BankrollDistribution distribution = new BankrollSolver(Dice.standard(), 1, 0).solve(10, 0, 1);
+
+        Assert.assertEquals(8.0 / 36, distribution.probability(11), 1e-12);
+        Assert.assertEquals(4.0 / 36, distribution.probability(9), 1e-12);
+        Assert.assertEquals(24.0 / 36, distribution.probability(10), 1e-12);
+        Assert.assertEquals(0, distribution.getRuinProbability(), 0);
+        Assert.assertEquals(1, distribution.getUndecidedProbability(), 1e-12);
+    }
+
+    @Test
+    public void gamblersRuin() {
+        double win = new OddsEngine(Dice.standard()).passLineWin().doubleValue();
+        double ratio = (1 - win) / win;
+        double doubled = (1 - Math.pow(ratio, 10)) / (1 - Math.pow(ratio, 20));
+
+        BankrollDistribution distribution = new BankrollSolver(Dice.standard(), 1, 0).solve(10, 10, 10000);
+
+        Assert.assertEquals(0, distribution.getUndecidedProbability(), 1e-9);
+        Assert.assertEquals(doubled, distribution.getGoalProbability(), 1e-9);
+        Assert.assertEquals(1 - doubled, distribution.getRuinProbability(), 1e-9);
+        Assert.assertEquals(doubled, distribution.probability(20), 1e-9);
+    }
+
+    @Test
+    public void oddsStayOnTheTable() {
+        BankrollDistribution distribution = new BankrollSolver(Dice.standard(), 10, 2).solve(100, 0, 1);
+
+        // A point leaves 30 units on the table, which still count towards the bankroll
+        Assert.assertEquals(24.0 / 36, distribution.probability(100), 1e-12);
+        Assert.assertEquals(100 + 10 * (8.0 - 4.0) / 36, distribution.getMean(), 1e-12);
+    }
+
+    @Test
+    public void ruinWhenScheduleCannotBeCovered() {
+        BankrollDistribution distribution = new BankrollSolver(Dice.standard(), 10, 2).solve(25, 0, 5);
+
+        Assert.assertEquals(1, distribution.getRuinProbability(), 0);
+        Assert.assertEquals(1, distribution.probability(25), 0);
+    }
+
+    @Test
+    public void parallelSlicesMatchSequential() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            BankrollDistribution sequential = new BankrollSolver(Dice.standard(), 10, 2, single).solve(5000, 0, 200);
+            BankrollDistribution parallel = new BankrollSolver(Dice.standard(), 10, 2, four).solve(5000, 0, 200);
+
+            Assert.assertTrue(sequential.getMaxBankroll() > 2 * BankrollSolver.MIN_SLICE);
+            Assert.assertEquals(1, parallel.probabilityAtLeast(0), 1e-9);
+            for (int bankroll = 0; bankroll <= sequential.getMaxBankroll(); bankroll++) {
+                Assert.assertEquals(sequential.probability(bankroll), parallel.probability(bankroll), 0);
+            }
+        } finally {
+            single.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oddsMustPayWholeUnits() {
+        new BankrollSolver(Dice.standard(), 1, 1);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.analysis;
+
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.dice.*;
+import org.apache.commons.lang3.math.Fraction;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OddsEngineTest {
+
+    Outcome anySeven;
+    Outcome anyCraps;
+
+    OddsEngine engine;
+
+    @Before
+    public void setUp() {
+        anySeven = Propositions.ANY_SEVEN;
+        anyCraps = Propositions.ANY_CRAPS;
+
+        engine = new OddsEngine(Dice.standard());
+    }
+
+    @Test
+    public void sumProbability() {
+        Assert.assertEquals(Fraction.getFraction(1, 36), engine.sumProbability(2));
+        Assert.assertEquals(Fraction.getFraction(1, 6), engine.sumProbability(7));
+        Assert.assertEquals(Fraction.ZERO, engine.sumProbability(1));
+    }
+
+    @Test
+    public void pointMade() {
+        Assert.assertEquals(Fraction.getFraction(1, 3), engine.pointMade(4));
+        Assert.assertEquals(Fraction.getFraction(2, 5), engine.pointMade(5));
+        Assert.assertEquals(Fraction.getFraction(5, 11), engine.pointMade(6));
+        Assert.assertEquals(Fraction.getFraction(5, 11), engine.pointMade(8));
+        Assert.assertEquals(Fraction.ZERO, engine.pointMade(7));
+    }
+
+    @Test
+    public void passLine() {
+        Assert.assertEquals(Fraction.getFraction(244, 495), engine.passLineWin());
+        Assert.assertEquals(Fraction.getFraction(-7, 495), engine.passLineExpectation());
+        Assert.assertEquals(Fraction.ONE.subtract(Fraction.getFraction(49, 245025)), engine.passLineVariance());
+    }
+
+    @Test
+    public void dontPass() {
+        Assert.assertEquals(Fraction.getFraction(949, 1980), engine.dontPassWin());
+        Assert.assertEquals(Fraction.getFraction(-3, 220), engine.dontPassExpectation());
+    }
+
+    @Test
+    public void expectedRollsPerDecision() {
+        Assert.assertEquals(Fraction.getFraction(557, 165), engine.expectedRollsPerDecision());
+    }
+
+    @Test
+    public void oneRollOutcomes() {
+        Assert.assertEquals(Fraction.getFraction(1, 6), engine.winProbability(anySeven));
+        Assert.assertEquals(Fraction.getFraction(-1, 6), engine.expectation(anySeven));
+        Assert.assertEquals(Fraction.getFraction(-1, 9), engine.expectation(anyCraps));
+        Assert.assertEquals(Fraction.getFraction(-5, 36), engine.expectation(Propositions.ACES));
+        Assert.assertEquals(Fraction.getFraction(-1, 9), engine.expectation(Propositions.YO));
+        // 1/6 * 16 + 5/6 * 1 - (1/6)^2
+        Assert.assertEquals(Fraction.getFraction(125, 36), engine.variance(anySeven));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyDice() {
+        new OddsEngine(new Dice());
+    }
+}
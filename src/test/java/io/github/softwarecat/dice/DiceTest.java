@@ -30,6 +30,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -64,6 +65,25 @@ public class DiceTest {
         Assert.assertEquals(naturalThrow, dice.getThrow(naturalThrow.getKey()));
     }
 
+    @Test
+    public void getThrowMissing() {
+        dice.addThrow(naturalThrow);
+
+        Assert.assertNull(dice.getThrow(6, 1));
+        Assert.assertNull(dice.getThrow(0, 7));
+        Assert.assertNull(dice.getThrow(7, 0));
+    }
+
+    @Test
+    public void index() {
+        Assert.assertEquals(0, Dice.index(1, 1));
+        Assert.assertEquals(5, Dice.index(1, 6));
+        Assert.assertEquals(6, Dice.index(2, 1));
+        Assert.assertEquals(35, Dice.index(6, 6));
+        Assert.assertEquals(-1, Dice.index(0, 1));
+        Assert.assertEquals(-1, Dice.index(1, 7));
+    }
+
     @Test
     public void addThrow() {
         dice.addThrow(naturalThrow);
@@ -97,4 +117,89 @@ public class DiceTest {
         Mockito.when(rng.nextInt(4)).thenReturn(3);
         Assert.assertEquals(diceThrows.get(3), dice.next());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void nextBatch() {
+        dice.addThrow(naturalThrow);
+        dice.addThrow(crapsThrow);
+        dice.addThrow(pointThrow);
+        dice.addThrow(elevenThrow);
+        List<Throw> diceThrows = new ArrayList<>(dice.THROWS.values());
+
+        Mockito.when(rng.nextInt(4)).thenReturn(2, 0, 3);
+        int[] batch = new int[5];
+        dice.nextBatch(batch, 3);
+
+        Assert.assertEquals(diceThrows.get(2), dice.throwAt(batch[0]));
+        Assert.assertEquals(diceThrows.get(0), dice.throwAt(batch[1]));
+        Assert.assertEquals(diceThrows.get(3), dice.throwAt(batch[2]));
+        Assert.assertEquals(0, batch[3]);
+    }
+
+    @Test
+    public void throwAt() {
+        dice.addThrow(naturalThrow);
+
+        Assert.assertEquals(naturalThrow, dice.throwAt(Dice.index(1, 6)));
+        Assert.assertNull(dice.throwAt(Dice.index(6, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addThrowOutOfRange() {
+        dice.addThrow(new PointThrow(7, -2));
+    }
+
+    @Test
+    public void standard() {
+        Dice standard = Dice.standard(RandomSource.seeded(1));
+
+        Assert.assertEquals(Dice.THROW_COUNT, standard.getThrows().size());
+        for (int i = 1; i <= Dice.FACES; i++) {
+            for (int j = 1; j <= Dice.FACES; j++) {
+                Throw diceThrow = standard.getThrow(i, j);
+                Assert.assertEquals(i, diceThrow.diceOne);
+                Assert.assertEquals(j, diceThrow.diceTwo);
+                Assert.assertSame(diceThrow, Dice.standard().getThrow(i, j));
+            }
+        }
+
+        Assert.assertTrue(standard.getThrow(1, 1) instanceof CrapsThrow);
+        Assert.assertTrue(standard.getThrow(1, 1).wins(Propositions.ACES));
+        Assert.assertTrue(standard.getThrow(1, 2).wins(Propositions.ACE_DEUCE));
+        Assert.assertTrue(standard.getThrow(6, 6).wins(Propositions.BOXCARS));
+        Assert.assertTrue(standard.getThrow(6, 6).wins(Propositions.ANY_CRAPS));
+        Assert.assertTrue(standard.getThrow(2, 5) instanceof NaturalThrow);
+        Assert.assertTrue(standard.getThrow(2, 5).wins(Propositions.ANY_SEVEN));
+        Assert.assertTrue(standard.getThrow(6, 5) instanceof ElevenThrow);
+        Assert.assertTrue(standard.getThrow(6, 5).wins(Propositions.YO));
+        Assert.assertTrue(standard.getThrow(3, 3) instanceof PointThrow);
+        Assert.assertEquals(0, standard.getThrow(3, 3).winningMask());
+    }
+
+    @Test
+    public void mirror() {
+        Assert.assertEquals(Dice.index(6, 6), Dice.mirror(Dice.index(1, 1)));
+        Assert.assertEquals(Dice.index(5, 2), Dice.mirror(Dice.index(2, 5)));
+        Assert.assertEquals(Dice.index(3, 4), Dice.mirror(Dice.index(4, 3)));
+    }
+
+    @Test
+    public void skip() {
+        Dice replay = Dice.standard(RandomSource.seeded(3));
+        Dice original = Dice.standard(RandomSource.seeded(3));
+        int[] batch = new int[20];
+        original.nextBatch(batch, 20);
+
+        replay.skip(15);
+        Assert.assertSame(original.throwAt(batch[15]), replay.next());
+    }
+
+    @Test
+    public void addThrows() {
+        dice.addThrows(Arrays.asList(naturalThrow, crapsThrow));
+
+        Assert.assertEquals(naturalThrow, dice.getThrow(1, 6));
+        Assert.assertEquals(crapsThrow, dice.getThrow(6, 6));
+        Assert.assertEquals(2, dice.getThrows().size());
+    }
+}
@@ -24,6 +24,7 @@
 
 package io.github.softwarecat.dice;
 
+import io.github.softwarecat.Game;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,6 +47,6 @@ public class ElevenThrowTest extends ThrowTest {
     @Test
     public void updateGame() {
         diceThrow.updateGame(game);
-        Assert.assertEquals("eleven", methodCalled);
+        Assert.assertEquals(Game.COME_OUT_WIN, event);
     }
 }
\ No newline at end of file
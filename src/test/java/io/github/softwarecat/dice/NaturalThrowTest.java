@@ -24,6 +24,7 @@
 
 package io.github.softwarecat.dice;
 
+import io.github.softwarecat.Game;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -44,6 +45,6 @@ public class NaturalThrowTest extends ThrowTest {
     @Test
     public void updateGame() {
         diceThrow.updateGame(game);
-        Assert.assertEquals("natural", methodCalled);
+        Assert.assertEquals(Game.COME_OUT_WIN, event);
     }
 }
\ No newline at end of file
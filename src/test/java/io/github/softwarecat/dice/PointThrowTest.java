@@ -24,6 +24,7 @@
 
 package io.github.softwarecat.dice;
 
+import io.github.softwarecat.Game;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,6 +62,7 @@ public class PointThrowTest extends ThrowTest {
     @Test
     public void updateGame() {
         diceThrow.updateGame(game);
-        Assert.assertEquals("point", methodCalled);
+        Assert.assertEquals(Game.POINT_ESTABLISHED, event);
+        Assert.assertEquals(4, game.getPoint());
     }
 }
\ No newline at end of file
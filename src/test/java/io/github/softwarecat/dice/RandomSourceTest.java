@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.dice;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class RandomSourceTest {
+
+    static int[] draw(RandomSource rng, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = rng.nextInt(Dice.THROW_COUNT);
+        }
+        return values;
+    }
+
+    @Test
+    public void seeded() {
+        Assert.assertArrayEquals(draw(RandomSource.seeded(7), 100), draw(RandomSource.seeded(7), 100));
+    }
+
+    @Test
+    public void split() {
+        RandomSource first = RandomSource.seeded(7);
+        RandomSource second = RandomSource.seeded(7);
+
+        RandomSource firstChild = first.split();
+        RandomSource secondChild = second.split();
+
+        // Drawing from the children in a different order must not change their streams
+        int[] secondValues = draw(secondChild, 100);
+        int[] firstValues = draw(firstChild, 100);
+        Assert.assertArrayEquals(firstValues, secondValues);
+        Assert.assertArrayEquals(draw(first.split(), 100), draw(second.split(), 100));
+    }
+
+    @Test
+    public void splitIsIndependent() {
+        RandomSource parent = RandomSource.seeded(7);
+        RandomSource child = parent.split();
+
+        Assert.assertFalse(Arrays.equals(draw(parent, 100), draw(child, 100)));
+    }
+
+    @Test
+    public void ofRandom() {
+        Assert.assertArrayEquals(draw(RandomSource.of(new Random(7)), 100), draw(RandomSource.of(new Random(7)), 100));
+        Assert.assertArrayEquals(draw(RandomSource.of(new Random(7)).split(), 100),
+                draw(RandomSource.of(new Random(7)).split(), 100));
+    }
+}
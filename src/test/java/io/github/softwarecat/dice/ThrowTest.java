@@ -25,6 +25,7 @@
 package io.github.softwarecat.dice;
 
 import io.github.softwarecat.Game;
+import io.github.softwarecat.Outcome;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
 import org.junit.Before;
@@ -34,31 +35,12 @@ public class ThrowTest {
 
     Game game;
     Throw diceThrow;
-    String methodCalled;
+    int event;
 
     @Before
     public void setUp() {
-        game = new Game() {
-            @Override
-            public void craps() {
-                methodCalled = "craps";
-            }
-
-            @Override
-            public void natural() {
-                methodCalled = "natural";
-            }
-
-            @Override
-            public void eleven() {
-                methodCalled = "eleven";
-            }
-
-            @Override
-            public void point(int point) {
-                methodCalled = "point";
-            }
-        };
+        event = -1;
+        game = new Game((diceThrow, event, point) -> this.event = event);
     }
 
     @Test
@@ -95,6 +77,56 @@ public class ThrowTest {
         }
     }
 
+    @Test
+    public void wins() {
+        Outcome anySeven = Outcome.of("Any Seven", 4);
+        Outcome horn = Outcome.of("Horn 11", 15);
+        Outcome anyCraps = Outcome.of("Any Craps", 7);
+
+        Throw diceThrow = new Throw(3, 4, anySeven, new Outcome("Any Seven", 4)) {
+            @Override
+            public void updateGame(Game game) {
+            }
+        };
+
+        Assert.assertTrue(diceThrow.wins(anySeven));
+        Assert.assertFalse(diceThrow.wins(horn));
+        Assert.assertFalse(diceThrow.wins(anyCraps));
+        Assert.assertEquals(1L << anySeven.getId(), diceThrow.winningMask());
+        Assert.assertEquals(1, diceThrow.outcomes.size());
+    }
+
+    @Test
+    public void outcomeIdsBeyondOneMaskWord() {
+        Outcome low = Propositions.ANY_SEVEN;
+        while (Outcome.count() <= 2 * Throw.MASK_BITS) {
+            Outcome.of("Filler " + Outcome.count(), 1);
+        }
+        Outcome other = Outcome.of("Filler Other", 1);
+        Outcome high = Outcome.of("Filler High", 1);
+        Assert.assertTrue(other.getId() >= 2 * Throw.MASK_BITS);
+
+        Throw diceThrow = new NaturalThrow(3, 4, low, high);
+
+        Assert.assertTrue(diceThrow.wins(low));
+        Assert.assertTrue(diceThrow.wins(high));
+        Assert.assertFalse(diceThrow.wins(other));
+        Assert.assertFalse(diceThrow.wins(Propositions.YO));
+        Assert.assertEquals(1L << low.getId(), diceThrow.winningMask());
+        Assert.assertTrue(Dice.standard().getThrow(3, 4).wins(low));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void outcomesAreUnmodifiable() {
+        Throw diceThrow = new Throw(3, 4) {
+            @Override
+            public void updateGame(Game game) {
+            }
+        };
+
+        diceThrow.outcomes.add(Outcome.of("Any Seven", 4));
+    }
+
     @Test
     public void getKey() {
         for (int i = 1; i < 7; i++) {
@@ -109,4 +141,24 @@ public class ThrowTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getKeyIsCached() {
+        Throw diceThrow = new Throw(2, 3) {
+        };
+
+        Assert.assertSame(diceThrow.getKey(), diceThrow.getKey());
+    }
+
+    @Test
+    public void getSum() {
+        for (int i = 1; i < 7; i++) {
+            for (int j = 1; j < 7; j++) {
+                Throw diceThrow = new Throw(i, j) {
+                };
+
+                Assert.assertEquals(i + j, diceThrow.getSum());
+            }
+        }
+    }
+}
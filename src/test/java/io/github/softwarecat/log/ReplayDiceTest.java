@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import io.github.softwarecat.dice.Throw;
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.player.Player;
+import io.github.softwarecat.table.Table;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class ReplayDiceTest {
+
+    static final int ROLLS = 2000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    Path path;
+
+    long[] bankrolls = new long[ROLLS + 1];
+
+    Table table;
+    Game game;
+    Player player;
+
+    @Before
+    public void setUp() throws IOException {
+        path = folder.getRoot().toPath().resolve("replay.log");
+        Dice dice = Dice.standard(RandomSource.seeded(11));
+        seat();
+        bankrolls[0] = player.getBankroll();
+        try (RollLogWriter writer = new RollLogWriter(path)) {
+            long lastCheckpoint = 0;
+            for (int roll = 1; roll <= ROLLS; roll++) {
+                Throw diceThrow = dice.next();
+                writer.write(diceThrow);
+                play(diceThrow);
+                bankrolls[roll] = player.getBankroll();
+                if (game.getPoint() == 0 && roll - lastCheckpoint >= 100) {
+                    writer.writeCheckpoint(0, player.getBankroll());
+                    lastCheckpoint = roll;
+                }
+            }
+        }
+    }
+
+    void seat() {
+        table = new Table();
+        player = new PassLinePlayer(100_000, 10);
+        table.join(player);
+        game = new Game(table);
+    }
+
+    void play(Throw diceThrow) {
+        player.beforeRoll(game.getPoint());
+        diceThrow.updateGame(game);
+    }
+
+    @Test
+    public void replay() throws IOException {
+        seat();
+        try (ReplayDice dice = new ReplayDice(path)) {
+            for (int roll = 1; roll <= ROLLS; roll++) {
+                play(dice.next());
+                Assert.assertEquals(bankrolls[roll], player.getBankroll());
+            }
+            Assert.assertFalse(dice.hasNext());
+            Assert.assertThrows(IllegalStateException.class, dice::next);
+        }
+    }
+
+    @Test
+    public void seekCheckpoint() throws IOException {
+        try (ReplayDice dice = new ReplayDice(path)) {
+            long start = dice.seekCheckpoint(1234);
+            Assert.assertTrue(start > 1000 && start <= 1234);
+            Assert.assertEquals(start, dice.getRolls());
+            Assert.assertTrue(dice.atCheckpoint());
+
+            seat();
+            dice.restore(game, table, player);
+            for (long roll = start + 1; roll <= ROLLS; roll++) {
+                play(dice.next());
+                Assert.assertEquals(bankrolls[(int) roll], player.getBankroll());
+            }
+
+            Assert.assertEquals(0, dice.seekCheckpoint(50));
+            Assert.assertFalse(dice.atCheckpoint());
+            Assert.assertThrows(IllegalStateException.class, () -> dice.restore(game, table, player));
+
+            long earlier = dice.seekCheckpoint(500);
+            Assert.assertTrue(earlier > 300 && earlier <= 500);
+            int[] batch = new int[10];
+            dice.nextBatch(batch, 10);
+            Assert.assertEquals(earlier + 10, dice.getRolls());
+        }
+    }
+
+    @Test
+    public void seekBackOnTheSameTable() throws IOException {
+        seat();
+        try (ReplayDice dice = new ReplayDice(path)) {
+            play(dice.next());
+            while (game.getPoint() == 0 || dice.getRolls() < 600) {
+                play(dice.next());
+            }
+            Assert.assertTrue(table.getBetCount() > 0);
+
+            long start = dice.seekCheckpoint(500);
+            dice.restore(game, table, player);
+            Assert.assertEquals(0, table.getPoint());
+            Assert.assertEquals(0, table.getBetCount());
+            Assert.assertEquals(bankrolls[(int) start], player.getBankroll());
+            for (long roll = start + 1; roll <= start + 300; roll++) {
+                play(dice.next());
+                Assert.assertEquals(bankrolls[(int) roll], player.getBankroll());
+            }
+        }
+    }
+
+    @Test
+    public void noCheckpointWhileThePointIsOn() throws IOException {
+        seat();
+        try (RollLogWriter writer = new RollLogWriter(folder.getRoot().toPath().resolve("point.log"))) {
+            Throw six = Dice.standard().getThrow(2, 4);
+            writer.write(six);
+            play(six);
+
+            Assert.assertEquals(6, game.getPoint());
+            Assert.assertTrue(player.getAmountOnTable() > 0);
+            Assert.assertThrows(IllegalArgumentException.class,
+                    () -> writer.writeCheckpoint(game.getPoint(), player.getBankroll()));
+        }
+    }
+
+    @Test
+    public void replayFromSeedAndOffset() throws IOException {
+        Dice seeded = Dice.standard(RandomSource.seeded(11));
+        seeded.skip(700);
+        try (ReplayDice dice = new ReplayDice(path)) {
+            dice.skip(700);
+            for (int i = 0; i < 100; i++) {
+                Assert.assertSame(seeded.next(), dice.next());
+            }
+        }
+    }
+}
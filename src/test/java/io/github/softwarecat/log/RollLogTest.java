@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.log;
+
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.dice.RandomSource;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RollLogTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAndRead() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("rolls.log");
+        try (RollLogWriter writer = new RollLogWriter(path)) {
+            writer.write(3, 4);
+            writer.write(Dice.standard().getThrow(6, 6));
+            writer.writeCheckpoint(0, 100, 250);
+            writer.writeIndex(Dice.index(2, 2));
+            Assert.assertEquals(3, writer.getRolls());
+        }
+        Assert.assertEquals(RollLog.HEADER_SIZE + 3 + 12 + 16, Files.size(path));
+
+        try (RollLogReader reader = new RollLogReader(path)) {
+            Assert.assertEquals(RollLogReader.ROLL, reader.next());
+            Assert.assertEquals(3, reader.getDiceOne());
+            Assert.assertEquals(4, reader.getDiceTwo());
+            Assert.assertEquals(RollLogReader.ROLL, reader.next());
+            Assert.assertEquals(Dice.index(6, 6), reader.getIndex());
+
+            Assert.assertEquals(RollLogReader.CHECKPOINT, reader.next());
+            Assert.assertEquals(2, reader.getCheckpointRolls());
+            Assert.assertEquals(0, reader.getPoint());
+            Assert.assertArrayEquals(new long[]{100, 250}, reader.getBankrolls());
+
+            Assert.assertEquals(RollLogReader.ROLL, reader.next());
+            Assert.assertEquals(2, reader.getDiceTwo());
+            Assert.assertEquals(RollLogReader.END, reader.next());
+            Assert.assertEquals(3, reader.getRolls());
+        }
+    }
+
+    @Test
+    public void recordsSpanWindows() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("windows.log");
+        RandomSource rng = RandomSource.seeded(5);
+        int[] indexes = new int[1000];
+        try (RollLogWriter writer = new RollLogWriter(path, 16)) {
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = rng.nextInt(Dice.THROW_COUNT);
+                writer.writeIndex(indexes[i]);
+                if (i % 37 == 0) {
+                    writer.writeCheckpoint(0, i, -i, i * 2L);
+                }
+            }
+        }
+
+        try (RollLogReader reader = new RollLogReader(path, 16)) {
+            int rolls = 0;
+            int checkpoints = 0;
+            int record;
+            while ((record = reader.next()) != RollLogReader.END) {
+                if (record == RollLogReader.ROLL) {
+                    Assert.assertEquals(indexes[rolls++], reader.getIndex());
+                } else {
+                    int i = rolls - 1;
+                    Assert.assertEquals(i, reader.getBankroll(0));
+                    Assert.assertEquals(-i, reader.getBankroll(1));
+                    Assert.assertEquals(0, reader.getPoint());
+                    checkpoints++;
+                }
+            }
+            Assert.assertEquals(indexes.length, rolls);
+            Assert.assertEquals(28, checkpoints);
+        }
+    }
+
+    @Test
+    public void unclosedLogEndsAtItsLastRecord() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("crashed.log");
+        try (RollLogWriter writer = new RollLogWriter(path, 4096)) {
+            writer.write(1, 1);
+            writer.write(2, 5);
+            writer.flush();
+            Assert.assertEquals(4096, Files.size(path));
+
+            // Read the padded file as a crashed writer would have left it
+            try (RollLogReader reader = new RollLogReader(path)) {
+                Assert.assertEquals(RollLogReader.ROLL, reader.next());
+                Assert.assertEquals(Dice.index(1, 1), reader.getIndex());
+                Assert.assertEquals(RollLogReader.ROLL, reader.next());
+                Assert.assertEquals(RollLogReader.END, reader.next());
+                Assert.assertEquals(RollLogReader.END, reader.next());
+                Assert.assertEquals(2, reader.getRolls());
+            }
+        }
+    }
+
+    @Test
+    public void seek() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("seek.log");
+        long position;
+        try (RollLogWriter writer = new RollLogWriter(path)) {
+            writer.write(1, 1);
+            position = writer.length();
+            writer.writeCheckpoint(0, 10);
+            writer.write(5, 6);
+        }
+
+        try (RollLogReader reader = new RollLogReader(path)) {
+            reader.seek(position, 1);
+            Assert.assertEquals(RollLogReader.CHECKPOINT, reader.next());
+            Assert.assertEquals(10, reader.getBankroll(0));
+            Assert.assertEquals(RollLogReader.ROLL, reader.next());
+            Assert.assertEquals(5, reader.getDiceOne());
+        }
+    }
+
+    @Test
+    public void notARollLog() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("text.log");
+        Files.write(path, "3, 4\n6, 6\n".getBytes());
+
+        Assert.assertThrows(IOException.class, () -> new RollLogReader(path));
+    }
+
+    @Test
+    public void invalidRolls() throws IOException {
+        try (RollLogWriter writer = new RollLogWriter(folder.getRoot().toPath().resolve("invalid.log"))) {
+            Assert.assertThrows(IllegalArgumentException.class, () -> writer.write(0, 4));
+            Assert.assertThrows(IllegalArgumentException.class, () -> writer.writeIndex(36));
+            Assert.assertThrows(IllegalArgumentException.class, () -> writer.writeCheckpoint(13));
+            Assert.assertThrows(IllegalArgumentException.class, () -> writer.writeCheckpoint(6, 100));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void quantiles() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int first = t + 1;
+            threads[t] = new Thread(() -> {
+                for (long nanos = first; nanos <= 10_000; nanos += threads.length) {
+                    recorder.record(nanos);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(10_000, recorder.getCount());
+        Assert.assertEquals(5000.5, recorder.getMean(), 1e-9);
+        Assert.assertEquals(10_000, recorder.getMax());
+        Assert.assertEquals(5000, recorder.getQuantile(0.5), 5000 * 0.04);
+        Assert.assertEquals(9900, recorder.getQuantile(0.99), 9900 * 0.04);
+        Assert.assertEquals(10_000, recorder.getQuantile(1));
+    }
+
+    @Test
+    public void reset() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(-5);
+        recorder.record(1_000_000);
+        Assert.assertEquals(2, recorder.getCount());
+        Assert.assertEquals(0, recorder.getQuantile(0));
+
+        recorder.reset();
+        Assert.assertEquals(0, recorder.getCount());
+        Assert.assertEquals(0, recorder.getMax());
+        Assert.assertEquals(0, recorder.getQuantile(0.5));
+
+        recorder.record(40);
+        Assert.assertEquals(40, recorder.getQuantile(1));
+    }
+}
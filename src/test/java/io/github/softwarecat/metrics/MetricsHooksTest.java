@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.metrics;
+
+import io.github.softwarecat.App;
+import io.github.softwarecat.Money;
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.simulation.SimulationResult;
+import io.github.softwarecat.simulation.Simulator;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs with {@code -Dcraps.metrics=true}, in the surefire execution of its own, so that the hooks in the game, the
+ * table and the application are compiled in.
+ */
+public class MetricsHooksTest {
+
+    MetricsMXBean bean;
+
+    long placed;
+    long settled;
+    long rolls;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(Metrics.ENABLED);
+        bean = Metrics.bean();
+        bean.reset();
+    }
+
+    @Test
+    public void simulationCounts() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Simulator simulator = new Simulator(CountingPlayer::new, 1, pool);
+            SimulationResult result = simulator.run(50, 100, 7);
+
+            Assert.assertEquals(result.getRolls(), rolls);
+            Assert.assertEquals(rolls, bean.getRolls());
+            Assert.assertEquals(rolls, bean.getRollsByThrow().values().stream().mapToLong(Long::longValue).sum());
+            Assert.assertEquals(placed, bean.getBetsPlaced().values().stream().mapToLong(Long::longValue).sum());
+            Assert.assertEquals(settled, bean.getBetsSettled().values().stream().mapToLong(Long::longValue).sum());
+            Assert.assertTrue(bean.getBetsPlaced().containsKey("Pass Line"));
+            Assert.assertTrue(bean.getBetsSettled().keySet().stream().anyMatch(name -> name.contains("Odds")));
+            Assert.assertEquals(rolls, bean.getSettlements());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void appReport() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = App.run(new String[]{"--sessions", "10", "--rolls", "20", "--seed", "1", "--shards", "1"},
+                new ByteArrayOutputStream(), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        Assert.assertEquals(0, status);
+        Assert.assertEquals(10 * 20, bean.getRolls());
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains("rolls 200"));
+    }
+
+    /**
+     * Plays the Pass Line with double odds, and counts its own bets, settlements and rolls.
+     */
+    class CountingPlayer extends PassLinePlayer {
+
+        CountingPlayer() {
+            super(Money.of(1000), Money.of(1), 2);
+        }
+
+        @Override
+        protected int placeBet(Outcome outcome, long amount) {
+            int slot = super.placeBet(outcome, amount);
+            if (slot >= 0) {
+                placed++;
+            }
+            return slot;
+        }
+
+        @Override
+        public void win(long returned, long winnings) {
+            settled++;
+            super.win(returned, winnings);
+        }
+
+        @Override
+        public void lose(long amount) {
+            settled++;
+            super.lose(amount);
+        }
+
+        @Override
+        public void rollResolved(int sum, int point, boolean hard, int event) {
+            rolls++;
+            super.rollResolved(sum, point, hard, event);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.metrics;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.table.TableOutcomes;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+public class MetricsTest {
+
+    MetricsMXBean bean;
+
+    @Before
+    public void setUp() {
+        bean = Metrics.bean();
+        bean.reset();
+    }
+
+    @Test
+    public void counts() {
+        Dice dice = Dice.standard();
+        Metrics.rolled(dice.getThrow(3, 4), 0, Game.COME_OUT_WIN);
+        Metrics.rolled(dice.getThrow(2, 4), 0, Game.POINT_ESTABLISHED);
+        Metrics.rolled(dice.getThrow(1, 6), 6, Game.SEVEN_OUT);
+        Metrics.betPlaced(TableOutcomes.PASS_LINE.getId());
+        Metrics.betSettled(TableOutcomes.PASS_LINE.getId());
+        Metrics.settled(120);
+
+        Assert.assertEquals(3, bean.getRolls());
+        Assert.assertEquals(Long.valueOf(2), bean.getRollsByThrow().get("NaturalThrow"));
+        Assert.assertEquals(Long.valueOf(1), bean.getRollsByThrow().get("PointThrow"));
+        Assert.assertEquals(Long.valueOf(1), bean.getTransitions().get("point  6 SEVEN_OUT"));
+        Assert.assertEquals(Long.valueOf(1), bean.getBetsPlaced().get("Pass Line"));
+        Assert.assertEquals(Long.valueOf(1), bean.getBetsSettled().get("Pass Line"));
+        Assert.assertEquals(1, bean.getSettlements());
+        Assert.assertEquals(120, bean.getSettlementMaxNanos());
+
+        String report = Metrics.report();
+        Assert.assertTrue(report.contains("rolls 3"));
+        Assert.assertTrue(report.contains("transition come out COME_OUT_WIN 1"));
+        Assert.assertTrue(report.contains("placed Pass Line 1"));
+    }
+
+    @Test
+    public void register() throws Exception {
+        Metrics.register();
+        Metrics.register();
+        Metrics.rolled(Dice.standard().getThrow(1, 1), 0, Game.COME_OUT_CRAPS);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Assert.assertEquals(1L, server.getAttribute(Metrics.objectName(), "Rolls"));
+    }
+}
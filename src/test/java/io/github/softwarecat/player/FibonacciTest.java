@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.player;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.NaturalThrow;
+import io.github.softwarecat.dice.PointThrow;
+import io.github.softwarecat.table.Table;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FibonacciTest {
+
+    Fibonacci player;
+
+    @Before
+    public void setUp() {
+        player = new Fibonacci(1000, 10);
+    }
+
+    @Test
+    public void nextBet() {
+        long[] expected = {10, 10, 20, 30, 50, 80};
+        for (long bet : expected) {
+            Assert.assertEquals(bet, player.nextBet());
+            player.lineDecided(false);
+        }
+
+        player.lineDecided(true);
+        Assert.assertEquals(50, player.nextBet());
+        player.lineDecided(true);
+        player.lineDecided(true);
+        player.lineDecided(true);
+        Assert.assertEquals(10, player.nextBet());
+    }
+
+    @Test
+    public void nextBetDoesNotOverflow() {
+        for (int i = 0; i < 200; i++) {
+            player.lineDecided(false);
+        }
+
+        Assert.assertTrue(player.nextBet() > 0);
+    }
+
+    @Test
+    public void oddsDoNotStepTheProgression() {
+        player = new Fibonacci(1000, 10, 2);
+        Table table = new Table();
+        table.join(player);
+        Game game = new Game(table);
+
+        for (long bet : new long[]{10, 10, 20}) {
+            Assert.assertEquals(bet, player.nextBet());
+            player.comeOut();
+            game.roll(new PointThrow(2, 4));
+            game.roll(new NaturalThrow(3, 4));
+        }
+        Assert.assertEquals(30, player.nextBet());
+        Assert.assertEquals(1000 - 3 * 40, player.getStake());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void baseBetMustBePositive() {
+        new Fibonacci(1000, 0);
+    }
+}
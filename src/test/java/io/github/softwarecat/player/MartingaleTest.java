@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.player;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.Money;
+import io.github.softwarecat.dice.CrapsThrow;
+import io.github.softwarecat.dice.NaturalThrow;
+import io.github.softwarecat.dice.PointThrow;
+import io.github.softwarecat.table.Table;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MartingaleTest {
+
+    Game game;
+    Martingale player;
+
+    @Before
+    public void setUp() {
+        player = new Martingale(1000, 10);
+        Table table = new Table();
+        table.join(player);
+        game = new Game(table);
+    }
+
+    @Test
+    public void nextBet() {
+        Assert.assertEquals(10, player.nextBet());
+
+        player.comeOut();
+        game.roll(new CrapsThrow(1, 2));
+        Assert.assertEquals(20, player.nextBet());
+
+        player.comeOut();
+        game.roll(new CrapsThrow(1, 2));
+        Assert.assertEquals(40, player.nextBet());
+        Assert.assertEquals(970, player.getStake());
+
+        player.comeOut();
+        game.roll(new NaturalThrow(1, 6));
+        Assert.assertEquals(10, player.nextBet());
+        Assert.assertEquals(1010, player.getStake());
+    }
+
+    @Test
+    public void nextBetDoesNotOverflow() {
+        long baseBet = Money.of(200_000);
+        player = new Martingale(Long.MAX_VALUE, baseBet);
+        for (int losses = 0; losses < 70; losses++) {
+            long bet = player.nextBet();
+            Assert.assertTrue(bet >= baseBet);
+            player.lineDecided(false);
+            Assert.assertTrue(player.nextBet() >= bet);
+        }
+        Assert.assertEquals(Long.MAX_VALUE, player.nextBet());
+    }
+
+    @Test
+    public void oddsDoNotStepTheProgression() {
+        player = new Martingale(1000, 10, 2);
+        Table table = new Table();
+        table.join(player);
+        game = new Game(table);
+
+        player.comeOut();
+        game.roll(new PointThrow(2, 4));
+        game.roll(new NaturalThrow(3, 4));
+        Assert.assertEquals(20, player.nextBet());
+        Assert.assertEquals(970, player.getStake());
+
+        player.comeOut();
+        game.roll(new PointThrow(1, 3));
+        game.roll(new PointThrow(2, 2));
+        Assert.assertEquals(10, player.nextBet());
+        Assert.assertEquals(1070, player.getStake());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.player;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.*;
+import io.github.softwarecat.table.Table;
+import io.github.softwarecat.table.TableOutcomes;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PlayerTest {
+
+    Game game;
+    Table table;
+    Player player;
+
+    StringBuilder calls;
+
+    @Before
+    public void setUp() {
+        calls = new StringBuilder();
+        player = new Player(100) {
+            @Override
+            public void comeOut() {
+                calls.append("comeOut;");
+                betPassLine(10);
+            }
+
+            @Override
+            public void pointEstablished(int point) {
+                calls.append("point ").append(point).append(';');
+            }
+
+            @Override
+            public void rollResolved(int sum, int point, boolean hard, int event) {
+                calls.append("roll ").append(sum).append(hard ? " hard;" : ";");
+            }
+
+            @Override
+            public void bankrollUpdated(long stake, long change) {
+                calls.append("bankroll ").append(stake).append(' ').append(change).append(';');
+            }
+        };
+        table = new Table();
+        table.join(player);
+        game = new Game(table);
+    }
+
+    void roll(Throw diceThrow) {
+        player.beforeRoll(game.getPoint());
+        game.roll(diceThrow);
+    }
+
+    @Test
+    public void comeOutWin() {
+        roll(new NaturalThrow(3, 4));
+
+        Assert.assertEquals("comeOut;bankroll 110 10;roll 7;", calls.toString());
+        Assert.assertEquals(110, player.getStake());
+    }
+
+    @Test
+    public void pointMade() {
+        roll(new PointThrow(3, 3));
+        Assert.assertEquals(90, player.getStake());
+        Assert.assertEquals(100, player.getBankroll());
+        roll(new PointThrow(2, 2));
+        roll(new PointThrow(2, 4));
+
+        Assert.assertEquals("comeOut;point 6;roll 6 hard;roll 4 hard;bankroll 110 10;roll 6;", calls.toString());
+        Assert.assertEquals(110, player.getStake());
+    }
+
+    @Test
+    public void sevenOut() {
+        roll(new PointThrow(4, 5));
+        roll(new NaturalThrow(1, 6));
+
+        Assert.assertEquals(90, player.getStake());
+        Assert.assertTrue(calls.toString().endsWith("bankroll 90 -10;roll 7;"));
+    }
+
+    @Test
+    public void craps() {
+        roll(new CrapsThrow(1, 1));
+
+        Assert.assertEquals("comeOut;bankroll 90 -10;roll 2;", calls.toString());
+    }
+
+    @Test
+    public void betLimitedToStake() {
+        player.stake = 4;
+        roll(new PointThrow(2, 2));
+
+        Assert.assertEquals(0, player.getStake());
+        Assert.assertEquals(4, player.getBankroll());
+        Assert.assertTrue(player.playing());
+
+        roll(new NaturalThrow(1, 6));
+        Assert.assertFalse(player.playing());
+    }
+
+    @Test
+    public void placeBetWithoutTable() {
+        Player unseated = new PassLinePlayer(100, 10);
+
+        Assert.assertThrows(IllegalStateException.class, unseated::comeOut);
+        Assert.assertEquals(100, unseated.getBankroll());
+    }
+
+    @Test
+    public void pressAndRemove() {
+        int slot = player.placeBet(TableOutcomes.place(6), 12);
+        player.pressBet(slot, 6);
+        Assert.assertEquals(82, player.getStake());
+        Assert.assertEquals(100, player.getBankroll());
+
+        player.removeBet(slot);
+        Assert.assertEquals(100, player.getStake());
+        Assert.assertEquals(0, table.getBetCount());
+    }
+
+    @Test
+    public void limits() {
+        player.setLimits(20, 15);
+        player.stake = 85;
+        Assert.assertTrue(player.playing());
+        player.stake = 80;
+        Assert.assertFalse(player.playing());
+        player.stake = 115;
+        Assert.assertFalse(player.playing());
+
+        player.stake = 80;
+        roll(new PointThrow(2, 2));
+        Assert.assertTrue(player.playing());
+        Assert.assertThrows(IllegalArgumentException.class, () -> player.setLimits(-1, 0));
+    }
+
+    @Test
+    public void passLineOdds() {
+        PassLinePlayer odds = new PassLinePlayer(1000, 10, 2);
+        Table oddsTable = new Table();
+        oddsTable.join(odds);
+        Game oddsGame = new Game(oddsTable);
+
+        odds.beforeRoll(oddsGame.getPoint());
+        oddsGame.roll(new PointThrow(1, 3));
+        Assert.assertEquals(30, odds.getAmountOnTable());
+        odds.beforeRoll(oddsGame.getPoint());
+        oddsGame.roll(new PointThrow(2, 2));
+        Assert.assertEquals(1000 + 10 + 40, odds.getStake());
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PassLinePlayer(100, 10, -1));
+    }
+}
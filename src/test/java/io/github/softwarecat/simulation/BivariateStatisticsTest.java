@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BivariateStatisticsTest {
+
+    @Test
+    public void add() {
+        BivariateStatistics statistics = new BivariateStatistics();
+        statistics.add(1, 2);
+        statistics.add(2, 4);
+        statistics.add(3, 6);
+
+        Assert.assertEquals(3, statistics.getCount());
+        Assert.assertEquals(2, statistics.getMeanX(), 1e-12);
+        Assert.assertEquals(4, statistics.getMeanY(), 1e-12);
+        Assert.assertEquals(1, statistics.getVarianceX(), 1e-12);
+        Assert.assertEquals(4, statistics.getVarianceY(), 1e-12);
+        Assert.assertEquals(2, statistics.getCovariance(), 1e-12);
+        Assert.assertEquals(1, statistics.getCorrelation(), 1e-12);
+    }
+
+    @Test
+    public void merge() {
+        BivariateStatistics all = new BivariateStatistics();
+        BivariateStatistics first = new BivariateStatistics();
+        BivariateStatistics second = new BivariateStatistics();
+        for (int i = 0; i < 100; i++) {
+            double x = Math.sin(i);
+            double y = Math.cos(i * 0.7) - x;
+            all.add(x, y);
+            (i < 30 ? first : second).add(x, y);
+        }
+        first.merge(second).merge(new BivariateStatistics());
+
+        Assert.assertEquals(all.getCount(), first.getCount());
+        Assert.assertEquals(all.getMeanY(), first.getMeanY(), 1e-12);
+        Assert.assertEquals(all.getVarianceX(), first.getVarianceX(), 1e-12);
+        Assert.assertEquals(all.getCovariance(), first.getCovariance(), 1e-12);
+    }
+
+    @Test
+    public void empty() {
+        BivariateStatistics statistics = new BivariateStatistics();
+
+        Assert.assertTrue(Double.isNaN(statistics.getMeanX()));
+        Assert.assertTrue(Double.isNaN(statistics.getCovariance()));
+        Assert.assertTrue(Double.isNaN(statistics.getCorrelation()));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Money;
+import io.github.softwarecat.analysis.BankrollDistribution;
+import io.github.softwarecat.analysis.BankrollSolver;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.player.Player;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class EdgeEstimatorTest {
+
+    Supplier<Player> flat = () -> new PassLinePlayer(Money.of(10_000), Money.of(1));
+
+    ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    EdgeEstimate estimate(boolean antithetic, boolean controlVariate, boolean stratified) {
+        return new EdgeEstimator(flat, antithetic, controlVariate, stratified, 4, pool).run(2000, 100, 5);
+    }
+
+    @Test
+    public void plainMonteCarlo() {
+        EdgeEstimate plain = estimate(false, false, false);
+
+        Assert.assertEquals(2000, plain.getSessions());
+        Assert.assertEquals(1, plain.getGain(), 1e-9);
+        Assert.assertEquals(0, plain.getBeta(), 0);
+        Assert.assertTrue(plain.getRolls() > 0 && plain.getRolls() <= 2000 * 100);
+    }
+
+    @Test
+    public void controlVariate() {
+        EdgeEstimate plain = estimate(false, false, false);
+        EdgeEstimate controlled = estimate(false, true, false);
+
+        Assert.assertTrue(controlled.getGain() > 10);
+        Assert.assertEquals(Money.of(1), controlled.getBeta(), Money.of(1) * 0.01);
+        Assert.assertTrue(controlled.getEffectiveSampleSize() > 10 * controlled.getSessions());
+        agree(plain, controlled);
+    }
+
+    @Test
+    public void controlVariateIsUnbiased() {
+        // The exact mean of 100 rolls of a flat one unit Pass Line bet, with sessions cut off mid-decision
+        BankrollDistribution exact = new BankrollSolver(Dice.standard(), 1, 0).solve(10_000, 0, 100);
+        double mean = Money.of(1) * (exact.getMean() - 10_000);
+
+        EdgeEstimator plain = new EdgeEstimator(flat, false, false, false, 4, pool);
+        EdgeEstimator controlled = new EdgeEstimator(flat, false, true, false, 4, pool);
+        EdgeEstimate plainEstimate = plain.run(20_000, 100, 11);
+        EdgeEstimate controlledEstimate = controlled.run(20_000, 100, 11);
+
+        Assert.assertEquals(mean, plainEstimate.getMean(), 4 * plainEstimate.getStandardError());
+        Assert.assertEquals(mean, controlledEstimate.getMean(), 4 * controlledEstimate.getStandardError());
+        agree(plainEstimate, controlledEstimate);
+    }
+
+    @Test
+    public void antithetic() {
+        EdgeEstimate plain = estimate(false, false, false);
+        EdgeEstimate paired = estimate(true, false, false);
+
+        Assert.assertEquals(4000, paired.getSessions());
+        agree(plain, paired);
+    }
+
+    @Test
+    public void stratified() {
+        EdgeEstimate plain = estimate(false, false, false);
+        EdgeEstimate strata = estimate(false, false, true);
+        EdgeEstimate all = estimate(true, true, true);
+
+        Assert.assertTrue(strata.getGain() > 1);
+        Assert.assertTrue(all.getGain() > 10);
+        agree(plain, strata);
+        agree(plain, all);
+    }
+
+    @Test
+    public void reproducible() {
+        Assert.assertEquals(estimate(true, true, true).getMean(), estimate(true, true, true).getMean(), 0);
+    }
+
+    @Test
+    public void needsSamplesInEveryStratum() {
+        EdgeEstimator estimator = new EdgeEstimator(flat, false, false, true, 1, pool);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> estimator.run(71, 10, 1));
+    }
+
+    void agree(EdgeEstimate one, EdgeEstimate other) {
+        double error = Math.hypot(one.getStandardError(), other.getStandardError());
+        Assert.assertEquals(one.getMean(), other.getMean(), 4 * error);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.player.Player;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class FloorSchedulerTest {
+
+    Supplier<Player> strategy = () -> new PassLinePlayer(100, 10);
+
+    @Test
+    public void run() {
+        List<TableEvent> events = new ArrayList<>();
+        FloorResult result = new FloorScheduler(strategy, 3, 2, 16, 1).run(20, 100, 7, events::add);
+
+        Assert.assertEquals(20, result.getTables());
+        Assert.assertEquals(60, result.getFinalBankroll().getCount());
+        long finished = events.stream().filter(event -> event.finished).count();
+        Assert.assertEquals(20, finished);
+        long rolls = events.stream().filter(event -> event.finished).mapToLong(event -> event.rolls).sum();
+        Assert.assertEquals(rolls, result.getRolls());
+        Assert.assertTrue(events.stream().allMatch(event -> event.rolls <= 100 && event.getPlayerCount() == 3));
+    }
+
+    @Test
+    public void runIsReproducible() {
+        long[][] one = finalBankrolls(1);
+        long[][] four = finalBankrolls(4);
+
+        for (int table = 0; table < one.length; table++) {
+            Assert.assertArrayEquals(one[table], four[table]);
+        }
+    }
+
+    long[][] finalBankrolls(int carriers) {
+        long[][] bankrolls = new long[30][];
+        new FloorScheduler(strategy, 2, carriers, 8, 4).run(30, 200, 42, event -> {
+            if (event.finished) {
+                bankrolls[event.table] = new long[]{event.getBankroll(0), event.getBankroll(1)};
+            }
+        });
+        return bankrolls;
+    }
+
+    @Test
+    public void failure() {
+        Supplier<Player> failing = () -> new Player(100) {
+            @Override
+            public void comeOut() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        Assert.assertThrows(IllegalStateException.class,
+                () -> new FloorScheduler(failing, 1, 2, 8, 4).run(4, 100, 1, event -> {
+                }));
+    }
+
+    @Test
+    public void invalidArguments() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new FloorScheduler(strategy, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new FloorScheduler(strategy, 1, 0, 8, 4));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new FloorScheduler(strategy, 1, 1, 0, 4));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new FloorScheduler(strategy, 1, 1, 8, 0));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistogramTest {
+
+    Histogram histogram;
+
+    @Before
+    public void setUp() {
+        histogram = new Histogram();
+    }
+
+    @Test
+    public void buckets() {
+        long previousHigh = -1;
+        for (int bucket = 0; bucket < 500; bucket++) {
+            long low = Histogram.lowestValue(bucket);
+            Assert.assertEquals(previousHigh + 1, low);
+            Assert.assertEquals(bucket, Histogram.bucket(low));
+            Assert.assertEquals(bucket, Histogram.bucket(Histogram.highestValue(bucket)));
+            previousHigh = Histogram.highestValue(bucket);
+        }
+        Assert.assertEquals(Long.MAX_VALUE, Histogram.highestValue(Histogram.bucket(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void quantile() {
+        for (int i = 1; i <= 10000; i++) {
+            histogram.add(i);
+        }
+
+        Assert.assertEquals(10000, histogram.getCount());
+        Assert.assertEquals(5000, histogram.getQuantile(0.5), 5000 * 0.04);
+        Assert.assertEquals(9900, histogram.getQuantile(0.99), 9900 * 0.04);
+        Assert.assertEquals(1, histogram.getQuantile(0));
+    }
+
+    @Test
+    public void negative() {
+        histogram.add(-100);
+        histogram.add(-10);
+        histogram.add(0);
+        histogram.add(10);
+        histogram.add(Long.MIN_VALUE);
+
+        Assert.assertTrue(histogram.getQuantile(0) < -100);
+        Assert.assertEquals(-100, histogram.getQuantile(0.4), 4);
+        Assert.assertEquals(-10, histogram.getQuantile(0.6));
+        Assert.assertEquals(0, histogram.getQuantile(0.8));
+        Assert.assertEquals(10, histogram.getQuantile(1));
+    }
+
+    @Test
+    public void merge() {
+        Histogram other = new Histogram();
+        histogram.add(1);
+        other.add(3);
+        other.add(5);
+
+        histogram.merge(other);
+        Assert.assertEquals(3, histogram.getCount());
+        Assert.assertEquals(3, histogram.getQuantile(0.5));
+    }
+
+    @Test
+    public void reset() {
+        histogram.add(-7);
+        histogram.add(7);
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getQuantile(0.5));
+        histogram.add(3);
+        Assert.assertEquals(3, histogram.getQuantile(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void quantileOutOfRange() {
+        histogram.getQuantile(1.5);
+    }
+}
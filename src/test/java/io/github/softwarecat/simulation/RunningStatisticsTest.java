@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RunningStatisticsTest {
+
+    RunningStatistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = new RunningStatistics();
+    }
+
+    @Test
+    public void add() {
+        for (int value : new int[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistics.add(value);
+        }
+
+        Assert.assertEquals(8, statistics.getCount());
+        Assert.assertEquals(5, statistics.getMean(), 1e-12);
+        Assert.assertEquals(32.0 / 7, statistics.getVariance(), 1e-12);
+        Assert.assertEquals(2, statistics.getMin(), 0);
+        Assert.assertEquals(9, statistics.getMax(), 0);
+        Assert.assertEquals(Math.sqrt(32.0 / 7 / 8), statistics.getStandardError(), 1e-12);
+    }
+
+    @Test
+    public void empty() {
+        Assert.assertTrue(Double.isNaN(statistics.getMean()));
+        Assert.assertTrue(Double.isNaN(statistics.getVariance()));
+    }
+
+    @Test
+    public void merge() {
+        RunningStatistics all = new RunningStatistics();
+        RunningStatistics other = new RunningStatistics();
+        for (int i = 0; i < 1000; i++) {
+            double value = Math.sin(i) * 100 + 1e6;
+            all.add(value);
+            if (i % 3 == 0) {
+                statistics.add(value);
+            } else {
+                other.add(value);
+            }
+        }
+
+        statistics.merge(other);
+        Assert.assertEquals(all.getCount(), statistics.getCount());
+        Assert.assertEquals(all.getMean(), statistics.getMean(), 1e-6);
+        Assert.assertEquals(all.getVariance(), statistics.getVariance(), 1e-6);
+        Assert.assertEquals(all.getMin(), statistics.getMin(), 0);
+        Assert.assertEquals(all.getMax(), statistics.getMax(), 0);
+    }
+
+    @Test
+    public void mergeEmpty() {
+        RunningStatistics other = new RunningStatistics();
+        other.add(3);
+
+        statistics.merge(new RunningStatistics()).merge(other);
+        Assert.assertEquals(1, statistics.getCount());
+        Assert.assertEquals(3, statistics.getMean(), 0);
+    }
+}
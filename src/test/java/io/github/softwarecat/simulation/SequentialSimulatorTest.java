@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Money;
+import io.github.softwarecat.player.Martingale;
+import io.github.softwarecat.player.PassLinePlayer;
+import io.github.softwarecat.player.Player;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class SequentialSimulatorTest {
+
+    Supplier<Player> flat = () -> new PassLinePlayer(Money.of(1000), Money.of(1));
+    Supplier<Player> martingale = () -> new Martingale(Money.of(1000), Money.of(1));
+    Supplier<Player> idle = () -> new Player(Money.of(1000)) {
+    };
+
+    ForkJoinPool pool;
+    SequentialSimulator simulator;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        simulator = new SequentialSimulator(100, 100, 200_000, 0.95, pool);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void normalQuantile() {
+        Assert.assertEquals(0, SequentialSimulator.normalQuantile(0.5), 1e-9);
+        Assert.assertEquals(1.959964, SequentialSimulator.normalQuantile(0.975), 1e-6);
+        Assert.assertEquals(-3.090232, SequentialSimulator.normalQuantile(0.001), 1e-6);
+        Assert.assertEquals(4.264891, SequentialSimulator.normalQuantile(1 - 1e-5), 1e-6);
+    }
+
+    @Test
+    public void criticalValueGrowsWithLooks() {
+        Assert.assertTrue(simulator.criticalValue(1) > 1.96);
+        Assert.assertTrue(simulator.criticalValue(10) > simulator.criticalValue(1));
+    }
+
+    @Test
+    public void estimateStopsEachStrategyOnItsOwn() {
+        List<SequentialResult> results = simulator.estimate(List.of(flat, martingale), Money.of(3), 3);
+
+        SequentialResult flatResult = results.get(0);
+        SequentialResult martingaleResult = results.get(1);
+        Assert.assertTrue(flatResult.isConverged());
+        Assert.assertTrue(martingaleResult.isConverged());
+        Assert.assertTrue(flatResult.getHalfWidth() <= Money.of(3));
+        Assert.assertTrue(flatResult.getResult().getSessions() < martingaleResult.getResult().getSessions());
+        Assert.assertTrue(martingaleResult.getHalfWidth() <= Money.of(3));
+    }
+
+    @Test
+    public void estimateIsReproducible() {
+        SequentialResult one = simulator.estimate(List.of(flat), Money.of(1), 8).get(0);
+        SequentialResult again = simulator.estimate(List.of(flat), Money.of(1), 8).get(0);
+
+        Assert.assertEquals(one.getMeanChange(), again.getMeanChange(), 0);
+        Assert.assertEquals(one.getLooks(), again.getLooks());
+    }
+
+    @Test
+    public void estimateDoesNotDependOnThreads() {
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        try {
+            SequentialSimulator one = new SequentialSimulator(100, 100, 200_000, 0.95, singleThread);
+            List<SequentialResult> single = one.estimate(List.of(flat, martingale), Money.of(3), 3);
+            List<SequentialResult> four = simulator.estimate(List.of(flat, martingale), Money.of(3), 3);
+
+            for (int i = 0; i < single.size(); i++) {
+                Assert.assertEquals(single.get(i).getMeanChange(), four.get(i).getMeanChange(), 0);
+                Assert.assertEquals(single.get(i).getLooks(), four.get(i).getLooks());
+                Assert.assertEquals(single.get(i).getResult().getSessions(), four.get(i).getResult().getSessions());
+            }
+
+            SequentialComparison singleComparison = one.compare(idle, flat, Money.of(1) / 100.0, 4);
+            SequentialComparison fourComparison = simulator.compare(idle, flat, Money.of(1) / 100.0, 4);
+            Assert.assertEquals(singleComparison.toString(), fourComparison.toString());
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+
+    @Test
+    public void estimateStopsAtTheLimit() {
+        SequentialSimulator limited = new SequentialSimulator(100, 100, 1000, 0.95, pool);
+        SequentialResult result = limited.estimate(List.of(martingale), 1e-6, 1).get(0);
+
+        Assert.assertFalse(result.isConverged());
+        Assert.assertEquals(1000, result.getResult().getSessions());
+    }
+
+    @Test
+    public void compareSameStrategy() {
+        SequentialComparison comparison = simulator.compare(flat, flat, Money.of(1) / 100.0, 4);
+
+        Assert.assertEquals(SequentialComparison.Decision.EQUIVALENT, comparison.getDecision());
+        Assert.assertEquals(0, comparison.getMeanDifference(), 0);
+        Assert.assertEquals(SequentialSimulator.MIN_COMPARISON_BATCHES * 100, comparison.getSessions());
+    }
+
+    @Test
+    public void compareFindsTheBetterStrategy() {
+        SequentialComparison comparison = simulator.compare(idle, flat, Money.of(1) / 100.0, 4);
+
+        Assert.assertEquals(SequentialComparison.Decision.A_BETTER, comparison.getDecision());
+        Assert.assertTrue(comparison.getSessions() < 200_000);
+
+        SequentialComparison reversed = simulator.compare(flat, idle, Money.of(1) / 100.0, 4);
+        Assert.assertEquals(SequentialComparison.Decision.B_BETTER, reversed.getDecision());
+    }
+
+    @Test
+    public void compareDoesNotCallADifferenceAboveTheMarginEquivalent() {
+        // Over 100 rolls the flat bettor loses about 0.29 of a unit more than the idle player.
+        for (long seed = 0; seed < 4; seed++) {
+            SequentialComparison comparison = simulator.compare(idle, flat, Money.of(1) * 0.27, seed);
+
+            Assert.assertNotEquals(SequentialComparison.Decision.EQUIVALENT, comparison.getDecision());
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new SequentialSimulator(1, 10, 100, 0.95, pool));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new SequentialSimulator(10, 10, 5, 0.95, pool));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new SequentialSimulator(10, 10, 100, 1, pool));
+        Assert.assertThrows(IllegalArgumentException.class, () -> simulator.estimate(List.of(flat), 0, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> simulator.compare(flat, idle, 0, 1));
+    }
+}
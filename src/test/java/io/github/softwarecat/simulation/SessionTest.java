@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.dice.Dice;
+import io.github.softwarecat.player.PassLinePlayer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SessionTest {
+
+    @Test
+    public void playsUntilThePlayerStops() {
+        Dice dice = Dice.standard();
+        SimulationResult result = new SimulationResult();
+        Session session = new Session(dice, result);
+
+        Assert.assertEquals(20, session.start(() -> new PassLinePlayer(20, 10)));
+        Assert.assertEquals(Game.POINT_ESTABLISHED, session.roll(Dice.index(2, 4)));
+        Assert.assertEquals(6, session.getPoint());
+        Assert.assertEquals(Game.SEVEN_OUT, session.roll(Dice.index(3, 4)));
+        Assert.assertEquals(Game.COME_OUT_CRAPS, session.roll(Dice.index(1, 1)));
+        Assert.assertFalse(session.playing());
+        Assert.assertEquals(0, session.finish());
+
+        Assert.assertEquals(1, result.getSessions());
+        Assert.assertEquals(3, result.getRolls());
+
+        Assert.assertEquals(20, session.start(() -> new PassLinePlayer(20, 10)));
+        Assert.assertEquals(0, session.getPoint());
+        Assert.assertTrue(session.playing());
+    }
+}
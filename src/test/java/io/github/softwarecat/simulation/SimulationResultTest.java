@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimulationResultTest {
+
+    SimulationResult first;
+    SimulationResult second;
+
+    @Before
+    public void setUp() {
+        first = new SimulationResult();
+        first.startSession(100);
+        first.addRoll(7);
+        first.addBankroll(80);
+        first.addSession(90);
+        first.startSession(100);
+        first.addSession(110);
+
+        second = new SimulationResult();
+        second.startSession(100);
+        second.addRoll(7);
+        second.addBankroll(150);
+        second.addRoll(11);
+        second.addBankroll(120);
+        second.addSession(130);
+    }
+
+    @Test
+    public void merge() {
+        first.merge(second);
+
+        Assert.assertEquals(3, first.getSessions());
+        Assert.assertEquals(3, first.getRolls());
+        Assert.assertEquals(2, first.getSumCount(7));
+        Assert.assertEquals(1, first.getSumCount(11));
+        Assert.assertEquals(90, first.getMinStake());
+        Assert.assertEquals(130, first.getMaxStake());
+        Assert.assertEquals(110, first.getMeanStake(), 1e-9);
+        Assert.assertEquals(400, first.getStakeVariance(), 1e-9);
+        Assert.assertEquals(110, first.getStakeQuantile(0.5));
+        Assert.assertEquals(80, first.getMinBankroll());
+        Assert.assertEquals(150, first.getMaxBankroll());
+    }
+
+    @Test
+    public void drawdown() {
+        Assert.assertEquals(20, first.getDrawdown().getMax(), 0);
+        Assert.assertEquals(0, first.getDrawdown().getMin(), 0);
+        Assert.assertEquals(30, second.getDrawdown().getMax(), 0);
+    }
+}
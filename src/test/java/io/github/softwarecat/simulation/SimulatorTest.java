@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.player.Martingale;
+import io.github.softwarecat.player.Player;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class SimulatorTest {
+
+    Supplier<Player> strategy;
+
+    ForkJoinPool singleThread;
+    ForkJoinPool fourThreads;
+
+    @Before
+    public void setUp() {
+        strategy = () -> new Player(100) {
+        };
+        singleThread = new ForkJoinPool(1);
+        fourThreads = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        singleThread.shutdown();
+        fourThreads.shutdown();
+    }
+
+    @Test
+    public void run() {
+        SimulationResult result = new Simulator(strategy, 3, fourThreads).run(10, 50, 1);
+
+        Assert.assertEquals(10, result.getSessions());
+        Assert.assertEquals(500, result.getRolls());
+        long total = 0;
+        for (int sum = 2; sum <= 12; sum++) {
+            total += result.getSumCount(sum);
+        }
+        Assert.assertEquals(500, total);
+        Assert.assertEquals(100, result.getMinStake());
+        Assert.assertEquals(100, result.getMaxStake());
+    }
+
+    @Test
+    public void runIsReproducible() {
+        SimulationResult one = new Simulator(strategy, 8, singleThread).run(100, 100, 42);
+        SimulationResult four = new Simulator(strategy, 8, fourThreads).run(100, 100, 42);
+
+        for (int sum = 2; sum <= 12; sum++) {
+            Assert.assertEquals(one.getSumCount(sum), four.getSumCount(sum));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            SimulationResult again = new Simulator(strategy, 8, fourThreads).run(100, 100, 42);
+            for (int sum = 2; sum <= 12; sum++) {
+                Assert.assertEquals(one.getSumCount(sum), again.getSumCount(sum));
+            }
+        }
+    }
+
+    @Test
+    public void strategyIsReproducible() {
+        Supplier<Player> martingale = () -> new Martingale(1000, 10);
+        SimulationResult one = new Simulator(martingale, 8, singleThread).run(200, 200, 7);
+        SimulationResult four = new Simulator(martingale, 8, fourThreads).run(200, 200, 7);
+
+        Assert.assertEquals(one.getRolls(), four.getRolls());
+        Assert.assertEquals(one.getMeanStake(), four.getMeanStake(), 0);
+        Assert.assertEquals(one.getStakeVariance(), four.getStakeVariance(), 1e-9);
+        Assert.assertEquals(one.getDrawdown().getMax(), four.getDrawdown().getMax(), 0);
+        Assert.assertNotEquals(1000, one.getMeanStake(), 0);
+    }
+
+    @Test
+    public void stopsWhenPlayerStops() {
+        SimulationResult result = new Simulator(() -> new Player(0) {
+        }, 2, singleThread).run(4, 50, 1);
+
+        Assert.assertEquals(4, result.getSessions());
+        Assert.assertEquals(0, result.getRolls());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void needsAShard() {
+        new Simulator(strategy, 0, singleThread);
+    }
+}
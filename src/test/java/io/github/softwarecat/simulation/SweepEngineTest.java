@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.simulation;
+
+import io.github.softwarecat.Money;
+import io.github.softwarecat.player.Player;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class SweepEngineTest {
+
+    ForkJoinPool pool;
+    SweepEngine engine;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        engine = new SweepEngine(500, 200, 17, pool);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void grid() {
+        List<SweepConfig> grid = SweepConfig.grid(Money.of(100), new long[]{Money.of(1), Money.of(5)},
+                new int[]{0, 1, 2}, new long[]{0, Money.of(50)}, new long[]{0, Money.of(50)});
+
+        Assert.assertEquals(24, grid.size());
+        Assert.assertEquals(Money.of(5), grid.get(23).baseBet);
+        Assert.assertEquals(2, grid.get(23).oddsMultiple);
+        Assert.assertEquals(Money.of(50), grid.get(1).winGoal);
+        Assert.assertEquals(0, grid.get(1).stopLoss);
+    }
+
+    @Test
+    public void commonRandomNumbers() {
+        SweepConfig config = new SweepConfig(Money.of(100), Money.of(1), 0, 0, 0);
+        List<SweepResult> results = engine.run(Arrays.asList(config, config));
+
+        Assert.assertEquals(500, results.get(0).getResult().getSessions());
+        Assert.assertEquals(results.get(0).getResult().getRolls(), results.get(1).getResult().getRolls());
+        RunningStatistics difference = results.get(0).difference(results.get(1));
+        Assert.assertEquals(0, difference.getMean(), 0);
+        Assert.assertEquals(0, difference.getVariance(), 0);
+    }
+
+    @Test
+    public void pairedDifferenceHasLowerVariance() {
+        List<SweepResult> results = engine.run(Arrays.asList(
+                new SweepConfig(Money.of(1000), Money.of(5), 0, 0, 0),
+                new SweepConfig(Money.of(1000), Money.of(5), 2, 0, 0)));
+
+        double independent = results.get(0).getResult().getStakeVariance()
+                + results.get(1).getResult().getStakeVariance();
+        double paired = results.get(0).difference(results.get(1)).getVariance();
+        Assert.assertTrue(paired < independent / 2);
+    }
+
+    @Test
+    public void limitsEndSessions() {
+        List<SweepResult> results = engine.run(Arrays.asList(
+                new SweepConfig(Money.of(100), Money.of(10), 0, 0, 0),
+                new SweepConfig(Money.of(100), Money.of(10), 0, Money.of(20), Money.of(20))));
+
+        Assert.assertTrue(results.get(1).getResult().getRolls() < results.get(0).getResult().getRolls());
+        Assert.assertTrue(results.get(1).getResult().getMaxStake() <= Money.of(130));
+        Assert.assertTrue(results.get(1).getResult().getMinStake() >= Money.of(70));
+    }
+
+    @Test
+    public void sameStreamsForOtherStrategies() {
+        Supplier<Player> idle = () -> new Player(Money.of(1)) {
+        };
+        SweepResult result = engine.run(List.of(idle)).get(0);
+
+        Assert.assertEquals(500L * 200, result.getResult().getRolls());
+        Assert.assertEquals(Money.of(1), result.getFinalBankroll(499));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void needsAStream() {
+        new SweepEngine(0, 10, 1, pool);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ *
+ * Copyright © 2021 Bowen Wu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.softwarecat.table;
+
+import io.github.softwarecat.Game;
+import io.github.softwarecat.Outcome;
+import io.github.softwarecat.dice.*;
+import io.github.softwarecat.player.Player;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TableTest {
+
+    Table table;
+    Game game;
+    TestPlayer first;
+    TestPlayer second;
+
+    @Before
+    public void setUp() {
+        table = new Table();
+        game = new Game(table);
+        first = new TestPlayer(1000);
+        second = new TestPlayer(1000);
+        Assert.assertEquals(0, table.join(first));
+        Assert.assertEquals(1, table.join(second));
+    }
+
+    @Test
+    public void passLineAndDontPass() {
+        first.bet(TableOutcomes.PASS_LINE, 100);
+        second.bet(TableOutcomes.DONT_PASS, 100);
+        game.roll(new NaturalThrow(3, 4));
+
+        Assert.assertEquals(1100, first.getBankroll());
+        Assert.assertEquals(900, second.getBankroll());
+        Assert.assertEquals(0, table.getBetCount());
+    }
+
+    @Test
+    public void dontPassBarTwelve() {
+        second.bet(TableOutcomes.DONT_PASS, 100);
+        game.roll(new CrapsThrow(6, 6));
+        Assert.assertEquals(1000, second.getStake());
+
+        second.bet(TableOutcomes.DONT_PASS, 100);
+        game.roll(new CrapsThrow(1, 2));
+        Assert.assertEquals(1100, second.getStake());
+    }
+
+    @Test
+    public void passOdds() {
+        first.bet(TableOutcomes.PASS_LINE, 100);
+        game.roll(new PointThrow(2, 4));
+        first.bet(TableOutcomes.passOdds(6), 50);
+        Assert.assertEquals(850, first.getStake());
+        Assert.assertEquals(150, first.getAmountOnTable());
+
+        game.roll(new PointThrow(1, 5));
+        Assert.assertEquals(1000 + 100 + 60, first.getStake());
+    }
+
+    @Test
+    public void oddsOnlyOnTheirPoint() {
+        Assert.assertThrows(IllegalStateException.class, () -> first.bet(TableOutcomes.passOdds(6), 50));
+        game.roll(new PointThrow(2, 2));
+        Assert.assertThrows(IllegalStateException.class, () -> first.bet(TableOutcomes.passOdds(6), 50));
+        Assert.assertThrows(IllegalStateException.class, () -> first.bet(TableOutcomes.PASS_LINE, 50));
+    }
+
+    @Test
+    public void placeBetStaysWorking() {
+        game.roll(new PointThrow(2, 2));
+        int slot = first.bet(TableOutcomes.place(6), 60);
+
+        game.roll(new PointThrow(3, 3));
+        Assert.assertEquals(940 + 70, first.getStake());
+        Assert.assertEquals(60, table.getBet(slot).amount);
+
+        game.roll(new NaturalThrow(2, 5));
+        Assert.assertEquals(1010, first.getBankroll());
+        Assert.assertNull(table.getBet(slot));
+    }
+
+    @Test
+    public void placeBetOffOnComeOut() {
+        game.roll(new PointThrow(2, 2));
+        first.bet(TableOutcomes.place(8), 60);
+        game.roll(new PointThrow(1, 3));
+
+        game.roll(new NaturalThrow(3, 4));
+        game.roll(new PointThrow(4, 4));
+        Assert.assertEquals(1000, first.getBankroll());
+        Assert.assertEquals(1, table.getBetCount());
+    }
+
+    @Test
+    public void oneRollPropositions() {
+        first.bet(Propositions.ANY_SEVEN, 10);
+        second.bet(Propositions.ANY_CRAPS, 10);
+        game.roll(Dice.standard().getThrow(1, 6));
+
+        Assert.assertEquals(1040, first.getStake());
+        Assert.assertEquals(990, second.getStake());
+        Assert.assertEquals(0, table.getBetCount());
+    }
+
+    @Test
+    public void propositionsWithHighIds() {
+        while (Outcome.count() <= Throw.MASK_BITS) {
+            Outcome.of("Filler " + Outcome.count(), 1);
+        }
+        Outcome high = Outcome.of("Seven or Bust", 4);
+        Assert.assertTrue(high.getId() >= Throw.MASK_BITS);
+
+        first.bet(high, 10);
+        game.roll(new NaturalThrow(1, 6, high));
+        second.bet(high, 10);
+        game.roll(new NaturalThrow(2, 5));
+
+        Assert.assertEquals(1040, first.getStake());
+        Assert.assertEquals(990, second.getStake());
+    }
+
+    @Test
+    public void betsPlacedWhenPaidWaitForTheNextThrow() {
+        TestPlayer rebetting = new TestPlayer(1000) {
+            boolean rebet;
+
+            @Override
+            public void win(long returned, long winnings) {
+                super.win(returned, winnings);
+                if (!rebet) {
+                    rebet = true;
+                    bet(TableOutcomes.PASS_LINE, 10);
+                    bet(Propositions.ANY_SEVEN, 10);
+                }
+            }
+        };
+        table.join(rebetting);
+        rebetting.bet(TableOutcomes.PASS_LINE, 10);
+        game.roll(new PointThrow(2, 4));
+        game.roll(new PointThrow(3, 3));
+
+        Assert.assertEquals(0, table.getPoint());
+        Assert.assertEquals(2, table.getBetCount());
+        Assert.assertEquals(1010, rebetting.getBankroll());
+        Assert.assertEquals(20, rebetting.getAmountOnTable());
+    }
+
+    @Test
+    public void slotsReused() {
+        int slot = first.bet(Propositions.YO, 10);
+        game.roll(new PointThrow(2, 2));
+
+        Assert.assertEquals(slot, second.bet(TableOutcomes.place(5), 10));
+        Assert.assertEquals(new Bet(TableOutcomes.place(5), 10, 1).toString(), table.getBet(slot).toString());
+    }
+
+    @Test
+    public void pressAndRemove() {
+        int slot = first.bet(TableOutcomes.PASS_LINE, 10);
+        table.press(slot, 10, 0);
+        Assert.assertEquals(20, table.getAmountOnTable(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.removeBet(slot, 1));
+
+        game.roll(new PointThrow(2, 3));
+        Assert.assertThrows(IllegalStateException.class, () -> table.press(slot, 10, 0));
+        Assert.assertThrows(IllegalStateException.class, () -> table.removeBet(slot, 0));
+
+        int place = first.bet(TableOutcomes.place(9), 10);
+        Assert.assertEquals(10, table.removeBet(place, 0));
+        Assert.assertEquals(1, table.getBets().size());
+    }
+
+    @Test
+    public void reset() {
+        first.bet(TableOutcomes.PASS_LINE, 10);
+        game.roll(new PointThrow(2, 3));
+        table.reset();
+
+        Assert.assertEquals(0, table.getBetCount());
+        Assert.assertEquals(0, table.getPlayerCount());
+        Assert.assertEquals(0, table.getPoint());
+    }
+
+    @Test
+    public void invalidBets() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.placeBet(TableOutcomes.PASS_LINE, 0, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.placeBet(TableOutcomes.PASS_LINE, 10, 2));
+        Assert.assertThrows(IllegalArgumentException.class, () -> TableOutcomes.place(7));
+    }
+
+    static class TestPlayer extends Player {
+
+        TestPlayer(long stake) {
+            super(stake);
+        }
+
+        int bet(Outcome outcome, long amount) {
+            return placeBet(outcome, amount);
+        }
+    }
+}